@@ -1,11 +1,18 @@
 package dev.jean.apps;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
 
 import dev.jean.apps.healthserver.backend.HealthServerApplication;
+import dev.jean.apps.healthserver.backend.command.ReplayDeadLettersCommand;
+import dev.jean.shared.infrastructure.cli.ConsoleCommand;
+import dev.jean.shared.infrastructure.config.ApplicationModules;
+import dev.jean.shared.infrastructure.config.InfrastructureModule;
 
 public class Starter {
     public static void main(String[] args) {
@@ -17,15 +24,47 @@ public class Starter {
         String commandName = args[1];
         boolean isServerCommand = commandName.equals("server");
 
+        ConfigurableApplicationContext context = application(applicationName, commandName).run(args);
+
+        if (!isServerCommand) {
+            ConsoleCommand command = context.getBean(commands().get(applicationName).get(commandName));
+
+            command.execute(args);
+            context.close();
+        }
+    }
+
+    /**
+     * Builds the Spring application of a command, with the modules of its
+     * application. The server is the web application, other commands get a
+     * context of their own without a web server.
+     */
+    static SpringApplication application(String applicationName, String commandName) {
         Class<?> applicationClass = applications().get(applicationName);
 
         SpringApplication app = new SpringApplication(applicationClass);
+        app.addInitializers(modules().get(applicationName));
+
+        if (!commandName.equals("server")) {
+            ensureCommandExists(applicationName, commandName);
+
+            // The AOT generated context only covers the server, commands add their own beans
+            System.setProperty("spring.aot.enabled", "false");
 
-        if (!isServerCommand) {
             app.setWebApplicationType(WebApplicationType.NONE);
+            app.addPrimarySources(List.of(commands().get(applicationName).get(commandName)));
         }
 
-        app.run(args);
+        return app;
+    }
+
+    private static void ensureCommandExists(String applicationName, String commandName) {
+        if (!commands().containsKey(applicationName) || !commands().get(applicationName).containsKey(commandName)) {
+            throw new RuntimeException(String.format(
+                    "The command <%s> for application <%s> doesn't exist",
+                    commandName,
+                    applicationName));
+        }
     }
 
     private static HashMap<String, Class<?>> applications() {
@@ -34,4 +73,31 @@ public class Starter {
         applications.put("healthserver_backend", HealthServerApplication.class);
         return applications;
     }
+
+    /**
+     * The bounded contexts and infrastructure modules of every application.
+     * The infrastructure an application doesn't declare is not loaded.
+     */
+    private static HashMap<String, ApplicationModules> modules() {
+        HashMap<String, ApplicationModules> modules = new HashMap<>();
+
+        // RabbitMQ is only used by the commands, the server doesn't initialize it
+        modules.put("healthserver_backend", new ApplicationModules(
+                List.of(),
+                Set.of(),
+                Set.of(InfrastructureModule.RABBITMQ)));
+
+        return modules;
+    }
+
+    private static HashMap<String, HashMap<String, Class<? extends ConsoleCommand>>> commands() {
+        HashMap<String, HashMap<String, Class<? extends ConsoleCommand>>> commands = new HashMap<>();
+
+        HashMap<String, Class<? extends ConsoleCommand>> healthServerBackendCommands = new HashMap<>();
+        healthServerBackendCommands.put("replay_dead_letters", ReplayDeadLettersCommand.class);
+
+        commands.put("healthserver_backend", healthServerBackendCommands);
+
+        return commands;
+    }
 }
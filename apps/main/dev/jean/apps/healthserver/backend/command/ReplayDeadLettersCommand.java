@@ -0,0 +1,62 @@
+package dev.jean.apps.healthserver.backend.command;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+
+import org.springframework.context.annotation.Import;
+
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqDeadLetterFilter;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqDeadLetterReplayer;
+import dev.jean.shared.infrastructure.cli.ConsoleCommand;
+
+/**
+ * Replays the dead letter events of one subscriber queue, or of all of them,
+ * to the domain events exchange.
+ *
+ * Usage: replay_dead_letters [--queue=name] [--event=name] [--aggregate=id]
+ * [--from=yyyy-mm-dd] [--to=yyyy-mm-dd] [--rate=events per second] [--dry-run]
+ *
+ * It is added to the application context by the Starter only when it is
+ * run. The RabbitMQ beans it needs come from the optional RabbitMQ module of
+ * the application, which the server never initializes.
+ */
+@Import(RabbitMqDeadLetterReplayer.class)
+public final class ReplayDeadLettersCommand extends ConsoleCommand {
+    private final Double DEFAULT_RATE = 100.0;
+    private final RabbitMqDeadLetterReplayer replayer;
+
+    public ReplayDeadLettersCommand(RabbitMqDeadLetterReplayer replayer) {
+        this.replayer = replayer;
+    }
+
+    @Override
+    public void execute(String[] args) {
+        HashMap<String, String> options = this.options(args);
+
+        RabbitMqDeadLetterFilter filter = new RabbitMqDeadLetterFilter(
+                options.get("event"),
+                options.get("aggregate"),
+                options.containsKey("from") ? LocalDate.parse(options.get("from")) : null,
+                options.containsKey("to") ? LocalDate.parse(options.get("to")) : null);
+        Double rate = options.containsKey("rate") ? Double.valueOf(options.get("rate")) : this.DEFAULT_RATE;
+        Boolean dryRun = options.containsKey("dry-run");
+
+        List<String> queues = options.containsKey("queue") ? List.of(options.get("queue")) : this.replayer.queues();
+
+        for (String queue : queues) {
+            try {
+                RabbitMqDeadLetterReplayer.Replay replay = this.replayer.replay(queue, filter, rate, dryRun);
+
+                this.info(String.format(
+                        "%s%s: %d replayed, %d skipped",
+                        dryRun ? "[dry run] " : "",
+                        queue,
+                        replay.replayed(),
+                        replay.skipped()));
+            } catch (RuntimeException e) {
+                this.error(String.format("%s: %s", queue, e.getMessage()));
+            }
+        }
+    }
+}
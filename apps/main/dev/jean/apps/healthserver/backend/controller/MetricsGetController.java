@@ -0,0 +1,23 @@
+package dev.jean.apps.healthserver.backend.controller;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.jean.shared.infrastructure.monitoring.MetricsRegistry;
+import dev.jean.shared.infrastructure.monitoring.PrometheusTextFormat;
+
+@RestController
+@Import(MetricsRegistry.class)
+public class MetricsGetController {
+    private final MetricsRegistry registry;
+
+    public MetricsGetController(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping(value = "/metrics", produces = PrometheusTextFormat.CONTENT_TYPE)
+    public String index() {
+        return registry.scrape();
+    }
+}
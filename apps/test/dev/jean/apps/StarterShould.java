@@ -0,0 +1,63 @@
+package dev.jean.apps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.jean.apps.healthserver.backend.command.ReplayDeadLettersCommand;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqDeadLetterReplayer;
+
+public final class StarterShould {
+    private final String APPLICATION = "healthserver_backend";
+    private final String REPLAY_DEAD_LETTERS = "replay_dead_letters";
+
+    @Test
+    public void not_create_the_rabbitmq_or_jdbc_beans_when_the_server_starts() {
+        try (ConfigurableApplicationContext context = Starter
+                .application(APPLICATION, "server")
+                .run(APPLICATION, "server", "--server.port=0")) {
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+
+            assertEquals(0, beanFactory.getBeanNamesForType(DataSource.class, true, false).length);
+
+            for (Class<?> rabbitMqBean : List.of(
+                    ConnectionFactory.class,
+                    RabbitTemplate.class,
+                    Declarables.class,
+                    RabbitListenerEndpointRegistry.class)) {
+                String[] beanNames = beanFactory.getBeanNamesForType(rabbitMqBean, true, false);
+
+                assertNotEquals(0, beanNames.length);
+
+                for (String beanName : beanNames) {
+                    assertFalse(
+                            beanFactory.containsSingleton(beanName),
+                            String.format("The bean <%s> was created on startup", beanName));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void resolve_the_dead_letter_replayer_in_the_command_context() {
+        try (ConfigurableApplicationContext context = Starter
+                .application(APPLICATION, REPLAY_DEAD_LETTERS)
+                .run(APPLICATION, REPLAY_DEAD_LETTERS)) {
+            assertNotNull(context.getBean(ReplayDeadLettersCommand.class));
+            assertNotNull(context.getBean(RabbitMqDeadLetterReplayer.class));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+#!/usr/bin/env bash
+# Compares the startup of "Starter healthserver_backend server" launched from
+# the boot jar against the optimized launch: the extracted jar with the Spring
+# AOT context and the CDS archive, both built by ./gradlew cdsArchive.
+#
+# startup: time until the context is refreshed (-Dspring.context.exit=onRefresh)
+# first request: time until /health-check answers
+# rss: resident memory of the server once it has answered the first request
+#
+# To compare two commits, e.g. before and after a change to the modules the
+# server declares, run it on each of them.
+#
+# It has not been run yet: no startup, first request or rss figures are
+# recorded for the optimized launch, so any gain from it is unmeasured.
+#
+# Usage: scripts/benchmark-startup.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-10}"
+PORT="${SERVER_PORT:-8080}"
+URL="http://localhost:${PORT}/health-check"
+JAR_NAME="java-ddd-skeleton-0.0.1.jar"
+JAR="build/libs/${JAR_NAME}"
+OPTIMIZED_DIR="build/optimized"
+
+if [ ! -f "${JAR}" ] || [ ! -f "${OPTIMIZED_DIR}/application.jsa" ]; then
+  echo "Build the jar and the CDS archive first: ./gradlew cdsArchive" >&2
+  exit 1
+fi
+
+CURRENT=(java -jar "$(pwd)/${JAR}")
+OPTIMIZED=(java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "${JAR_NAME}")
+
+now_ms() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+# Prints the milliseconds until the context is refreshed
+startup() {
+  local directory="$1"
+  shift
+  local start
+  start=$(now_ms)
+  (cd "${directory}" && JAVA_TOOL_OPTIONS=-Dspring.context.exit=onRefresh "$@" healthserver_backend server >/dev/null 2>&1)
+  echo $(($(now_ms) - start))
+}
+
+# Prints the milliseconds until the first request is answered, and the resident
+# memory of the server then, in MB
+first_request() {
+  local directory="$1"
+  shift
+  local start
+  start=$(now_ms)
+  (cd "${directory}" && exec "$@" healthserver_backend server >/dev/null 2>&1) &
+  local pid=$!
+
+  until curl -sf -o /dev/null "${URL}"; do
+    sleep 0.01
+  done
+
+  echo "$(($(now_ms) - start)) $(($(ps -o rss= -p "${pid}") / 1024))"
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+}
+
+run() {
+  local name="$1"
+  local directory="$2"
+  shift 2
+  local startups=()
+  local requests=()
+  local rss=()
+  local request
+
+  for _ in $(seq "${RUNS}"); do
+    startups+=("$(startup "${directory}" "$@")")
+    read -r -a request <<<"$(first_request "${directory}" "$@")"
+    requests+=("${request[0]}")
+    rss+=("${request[1]}")
+  done
+
+  printf "%-10s startup %6s ms   first request %6s ms   rss %5s MB\n" \
+    "${name}" \
+    "$(printf "%s\n" "${startups[@]}" | median)" \
+    "$(printf "%s\n" "${requests[@]}" | median)" \
+    "$(printf "%s\n" "${rss[@]}" | median)"
+}
+
+echo "Median of ${RUNS} runs"
+run current . "${CURRENT[@]}"
+run optimized "${OPTIMIZED_DIR}" "${OPTIMIZED[@]}"
@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# Sets the dead letter policy of every subscriber queue of the domain events,
+# so the messages rejected from it go to its dead letter queue. The queues are
+# declared without x-dead-letter-* arguments, as redeclaring an existing queue
+# with other arguments fails with PRECONDITION_FAILED, and a policy applies to
+# the existing queues too.
+#
+# Every queue gets a policy of its own, named after its dead letter queue, as
+# the dead letters are routed by the name of their queue. A queue only follows
+# one policy, the one with the highest priority: merge these keys into any
+# other policy matching the queues instead.
+#
+# Run it against every broker once the queues are declared, and again when
+# subscribers are added. Setting a policy again is a no-op.
+#
+# Usage: scripts/rabbitmq-dead-letter-policies.sh [exchange] [vhost]
+set -euo pipefail
+
+EXCHANGE="${1:-${RABBITMQ_EXCHANGE:-domain_events}}"
+VHOST="${2:-/}"
+DEAD_LETTER_EXCHANGE="dead_letter-${EXCHANGE}"
+
+QUEUES="$(rabbitmqctl list_queues --quiet --no-table-headers --vhost "${VHOST}" name)"
+
+# The subscriber queues are the ones with a dead letter queue
+printf '%s\n' "${QUEUES}" |
+  sed -n 's/^dead_letter\.//p' |
+  while read -r queue; do
+    if ! printf '%s\n' "${QUEUES}" | grep -q -x -F "${queue}"; then
+      continue
+    fi
+
+    pattern="^$(printf '%s' "${queue}" | sed 's/[.[\*^$()+?{|]/\\&/g')\$"
+
+    rabbitmqctl set_policy --vhost "${VHOST}" --apply-to queues \
+      "dead_letter.${queue}" \
+      "${pattern}" \
+      "{\"dead-letter-exchange\":\"${DEAD_LETTER_EXCHANGE}\",\"dead-letter-routing-key\":\"${queue}\"}"
+  done
@@ -0,0 +1,245 @@
+package dev.jean.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ReturnTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.util.Trees;
+
+/**
+ * This annotation processor indexes, at compile time, the command handlers,
+ * the query handlers, the domain events and the domain event subscribers of
+ * the classes being compiled, so they don't have to be scanned for on
+ * startup. The index is written as a resource, one entry per line with its
+ * tab separated kind, key and value:
+ *
+ * command {command class} {handler class}
+ * query {query class} {handler class}
+ * event {event name} {event class}
+ * subscriber {subscriber class}
+ *
+ * The event name is taken from the string literal returned by the eventName
+ * method of the event. If it is not a literal, the name is left empty, and
+ * it is resolved on startup from an instance of the event.
+ *
+ * The processor is not registered as an incremental one with Gradle, so any
+ * change recompiles every class of the module. Gradle wraps the processing
+ * environment of incremental processors, and the compiler trees the event
+ * names are read from are only available in javac's own environment, so
+ * every event name would be resolved on startup instead.
+ */
+@SupportedAnnotationTypes("*")
+public final class ClassIndexProcessor extends AbstractProcessor {
+    public static final String INDEX = "META-INF/dev.jean/class-index";
+    private final String COMMAND_HANDLER = "dev.jean.shared.domain.bus.command.CommandHandler";
+    private final String QUERY_HANDLER = "dev.jean.shared.domain.bus.query.QueryHandler";
+    private final String DOMAIN_EVENT = "dev.jean.shared.domain.bus.event.DomainEvent";
+    private final String DOMAIN_EVENT_SUBSCRIBER = "dev.jean.shared.domain.bus.event.DomainEventSubscriber";
+    private final List<String> entries = new ArrayList<>();
+    private Trees trees;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+
+        try {
+            this.trees = Trees.instance(processingEnv);
+        } catch (IllegalArgumentException e) {
+            // Not running in javac, event names are resolved on startup
+            this.trees = null;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.write();
+
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            this.index(type);
+        }
+
+        return false;
+    }
+
+    /**
+     * Indexes a type and its nested types.
+     *
+     * @param type The type.
+     */
+    private void index(TypeElement type) {
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            this.index(nestedType);
+        }
+
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return;
+        }
+
+        String className = this.binaryName(type);
+        TypeElement commandHandler = this.typeElement(this.COMMAND_HANDLER);
+        TypeElement queryHandler = this.typeElement(this.QUERY_HANDLER);
+        TypeElement domainEvent = this.typeElement(this.DOMAIN_EVENT);
+        TypeElement domainEventSubscriber = this.typeElement(this.DOMAIN_EVENT_SUBSCRIBER);
+
+        if (null != commandHandler) {
+            TypeElement command = this.typeArgument(type.asType(), commandHandler, 0);
+
+            if (null != command) {
+                this.entries.add(String.join("\t", "command", this.binaryName(command), className));
+            }
+        }
+
+        if (null != queryHandler) {
+            TypeElement query = this.typeArgument(type.asType(), queryHandler, 0);
+
+            if (null != query) {
+                this.entries.add(String.join("\t", "query", this.binaryName(query), className));
+            }
+        }
+
+        if (null != domainEvent && !type.equals(domainEvent) && this.isSubtype(type, domainEvent)) {
+            this.entries.add(String.join("\t", "event", this.eventName(type), className));
+        }
+
+        if (null != domainEventSubscriber && type.getAnnotationMirrors().stream().anyMatch(
+                annotation -> annotation.getAnnotationType().asElement().equals(domainEventSubscriber))) {
+            this.entries.add(String.join("\t", "subscriber", className, ""));
+        }
+    }
+
+    /**
+     * Returns an argument of a generic supertype of a type.
+     *
+     * @param type    The type.
+     * @param generic The generic supertype.
+     * @param index   The index of the type argument.
+     * @return The type argument, or null if the type is not a subtype of the
+     *         generic one.
+     */
+    private TypeElement typeArgument(TypeMirror type, TypeElement generic, int index) {
+        for (TypeMirror supertype : this.processingEnv.getTypeUtils().directSupertypes(type)) {
+            if (supertype instanceof DeclaredType declared && declared.asElement().equals(generic)) {
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+
+                return arguments.size() > index && arguments.get(index) instanceof DeclaredType argument
+                        ? (TypeElement) argument.asElement()
+                        : null;
+            }
+
+            TypeElement argument = this.typeArgument(supertype, generic, index);
+
+            if (null != argument) {
+                return argument;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the event name returned as a literal by the eventName method
+     * of an event.
+     *
+     * @param event The event.
+     * @return The event name, or an empty string if it can't be known at
+     *         compile time.
+     */
+    private String eventName(TypeElement event) {
+        if (null == this.trees) {
+            return "";
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(event.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals("eventName") || !method.getParameters().isEmpty()) {
+                continue;
+            }
+
+            MethodTree tree = this.trees.getTree(method);
+
+            if (null == tree || null == tree.getBody() || tree.getBody().getStatements().size() != 1) {
+                return "";
+            }
+
+            StatementTree statement = tree.getBody().getStatements().get(0);
+
+            if (statement instanceof ReturnTree returned
+                    && returned.getExpression() instanceof LiteralTree literal
+                    && literal.getValue() instanceof String name) {
+                return name;
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * Writes the index with the entries of every round.
+     */
+    private void write() {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = this.processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+
+            try (Writer writer = index.openWriter()) {
+                for (String entry : this.entries) {
+                    writer.write(entry);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format("The class index can't be written: %s", e.getMessage()));
+        }
+    }
+
+    private boolean isSubtype(TypeElement type, TypeElement supertype) {
+        return this.processingEnv.getTypeUtils().isSubtype(
+                this.processingEnv.getTypeUtils().erasure(type.asType()),
+                this.processingEnv.getTypeUtils().erasure(supertype.asType()));
+    }
+
+    private TypeElement typeElement(String name) {
+        return this.processingEnv.getElementUtils().getTypeElement(name);
+    }
+
+    private String binaryName(Element type) {
+        return this.processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString();
+    }
+}
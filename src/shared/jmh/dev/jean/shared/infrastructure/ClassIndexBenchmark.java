@@ -0,0 +1,51 @@
+package dev.jean.shared.infrastructure;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.jean.shared.infrastructure.bus.command.CommandHandlersInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+import dev.jean.shared.infrastructure.bus.query.QueryHandlersInformation;
+
+/**
+ * This benchmark measures the startup cost of building the four information
+ * classes, reading the class index generated at compile time against
+ * scanning the classpath with Reflections, as it was done before. Every fork
+ * is a cold start, so only the first invocation of each fork is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ClassIndexBenchmark {
+    @Param({ "index", "scan" })
+    private String source;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("dev.jean.class-index.disabled", String.valueOf("scan".equals(source)));
+    }
+
+    @Benchmark
+    public void buildInformation(Blackhole blackhole) {
+        blackhole.consume(new CommandHandlersInformation());
+        blackhole.consume(new QueryHandlersInformation());
+        blackhole.consume(new DomainEventsInformation());
+        blackhole.consume(new DomainEventSubscribersInformation());
+    }
+}
@@ -0,0 +1,87 @@
+package dev.jean.shared.infrastructure.bus.command;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import dev.jean.shared.domain.bus.command.Command;
+import dev.jean.shared.domain.bus.command.CommandHandler;
+
+/**
+ * This benchmark compares dispatching a command by searching and resolving
+ * its handler on every call against dispatching it through the handlers
+ * table resolved once the application context is refreshed.
+ *
+ * Run it with `./gradlew :shared:jmh`, adding `-prof gc` to the JMH
+ * arguments to check the allocations per dispatch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryCommandBusBenchmark {
+    private GenericApplicationContext context;
+    private InMemoryCommandBus lookupBus;
+    private InMemoryCommandBus precompiledBus;
+    private final BenchmarkCommand command = new BenchmarkCommand();
+
+    @SuppressWarnings("rawtypes")
+    @Setup
+    public void setUp() {
+        context = new GenericApplicationContext();
+        context.registerBean(BenchmarkCommandHandler.class);
+        context.refresh();
+
+        HashMap<Class<? extends Command>, Class<? extends CommandHandler>> handlers = new HashMap<>();
+        handlers.put(BenchmarkCommand.class, BenchmarkCommandHandler.class);
+        CommandHandlersInformation information = new CommandHandlersInformation(handlers);
+
+        lookupBus = new InMemoryCommandBus(information, context);
+        precompiledBus = new InMemoryCommandBus(information, context);
+        precompiledBus.onApplicationEvent(new ContextRefreshedEvent(context));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void dispatchSearchingTheHandler(Blackhole blackhole) {
+        lookupBus.dispatch(command);
+        blackhole.consume(command);
+    }
+
+    @Benchmark
+    public void dispatchThroughTheHandlersTable(Blackhole blackhole) {
+        precompiledBus.dispatch(command);
+        blackhole.consume(command);
+    }
+
+    public static final class BenchmarkCommand implements Command {
+        private long handled;
+    }
+
+    public static final class BenchmarkCommandHandler implements CommandHandler<BenchmarkCommand> {
+        @Override
+        public void handle(BenchmarkCommand command) {
+            command.handled++;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.UUID;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This class is a domain event used by the benchmarks, with a few
+ * attributes like the ones of a real event.
+ */
+public final class BenchmarkDomainEvent extends DomainEvent {
+    private final String name;
+    private final String email;
+    private final Integer age;
+
+    public BenchmarkDomainEvent(String aggregateId, String name, String email, Integer age) {
+        super(aggregateId);
+        this.name = name;
+        this.email = email;
+        this.age = age;
+    }
+
+    public BenchmarkDomainEvent(
+            String aggregateId, String eventId, String occurredOn, String name, String email, Integer age) {
+        super(aggregateId, eventId, occurredOn);
+        this.name = name;
+        this.email = email;
+        this.age = age;
+    }
+
+    public BenchmarkDomainEvent() {
+        super();
+        this.name = null;
+        this.email = null;
+        this.age = null;
+    }
+
+    @Override
+    public String eventName() {
+        return "benchmark.created";
+    }
+
+    @Override
+    public HashMap<String, Serializable> toPrimitives() {
+        HashMap<String, Serializable> primitives = new HashMap<>();
+        primitives.put("name", name);
+        primitives.put("email", email);
+        primitives.put("age", age);
+
+        return primitives;
+    }
+
+    @Override
+    public BenchmarkDomainEvent fromPrimitives(
+            String aggregateId, HashMap<String, Serializable> body, String eventId, String occurredOn) {
+        return new BenchmarkDomainEvent(
+                aggregateId,
+                eventId,
+                occurredOn,
+                (String) body.get("name"),
+                (String) body.get("email"),
+                (Integer) body.get("age"));
+    }
+
+    /**
+     * Creates a random benchmark event.
+     *
+     * @return A benchmark event.
+     */
+    public static BenchmarkDomainEvent random() {
+        return new BenchmarkDomainEvent(
+                UUID.randomUUID().toString(),
+                "Jean",
+                "jean@example.com",
+                30);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.UUID;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TypedDomainEvent;
+
+/**
+ * This class is the typed version of BenchmarkDomainEvent, with the same
+ * attributes declared as a record.
+ */
+public final class BenchmarkTypedDomainEvent extends DomainEvent
+        implements TypedDomainEvent<BenchmarkTypedDomainEvent.Attributes> {
+    private final Attributes attributes;
+
+    public record Attributes(String name, String email, int age) {
+    }
+
+    public BenchmarkTypedDomainEvent(String aggregateId, Attributes attributes) {
+        super(aggregateId);
+        this.attributes = attributes;
+    }
+
+    public BenchmarkTypedDomainEvent(String aggregateId, String eventId, String occurredOn, Attributes attributes) {
+        super(aggregateId, eventId, occurredOn);
+        this.attributes = attributes;
+    }
+
+    public BenchmarkTypedDomainEvent() {
+        super();
+        this.attributes = null;
+    }
+
+    @Override
+    public String eventName() {
+        return "benchmark.typed_created";
+    }
+
+    @Override
+    public Attributes attributes() {
+        return attributes;
+    }
+
+    @Override
+    public BenchmarkTypedDomainEvent fromAttributes(
+            String aggregateId, Attributes attributes, String eventId, String occurredOn) {
+        return new BenchmarkTypedDomainEvent(aggregateId, eventId, occurredOn, attributes);
+    }
+
+    @Override
+    public HashMap<String, Serializable> toPrimitives() {
+        HashMap<String, Serializable> primitives = new HashMap<>();
+        primitives.put("name", attributes.name());
+        primitives.put("email", attributes.email());
+        primitives.put("age", attributes.age());
+
+        return primitives;
+    }
+
+    @Override
+    public BenchmarkTypedDomainEvent fromPrimitives(
+            String aggregateId, HashMap<String, Serializable> body, String eventId, String occurredOn) {
+        return new BenchmarkTypedDomainEvent(
+                aggregateId,
+                eventId,
+                occurredOn,
+                new Attributes((String) body.get("name"), (String) body.get("email"), (Integer) body.get("age")));
+    }
+
+    /**
+     * Creates a random typed benchmark event.
+     *
+     * @return A typed benchmark event.
+     */
+    public static BenchmarkTypedDomainEvent random() {
+        return new BenchmarkTypedDomainEvent(
+                UUID.randomUUID().toString(),
+                new Attributes("Jean", "jean@example.com", 30));
+    }
+}
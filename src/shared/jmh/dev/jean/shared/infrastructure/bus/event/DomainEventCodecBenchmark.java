@@ -0,0 +1,74 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This benchmark compares the throughput of encoding and decoding an event
+ * with every codec. The encode benchmark also counts the encoded bytes, so
+ * the size of the encoded event is the bytes per second divided by the
+ * operations per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventCodecBenchmark {
+    @Param({ JsonDomainEventCodec.CONTENT_TYPE, CborDomainEventCodec.CONTENT_TYPE })
+    private String contentType;
+
+    private DomainEventCodec codec;
+    private DomainEvent event;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        DomainEventJsonDeserializer deserializer = new DomainEventJsonDeserializer(
+                new DomainEventFactories(new DomainEventsInformation()));
+
+        codec = contentType.equals(CborDomainEventCodec.CONTENT_TYPE)
+                ? new CborDomainEventCodec(deserializer)
+                : new JsonDomainEventCodec(deserializer);
+        event = BenchmarkDomainEvent.random();
+        body = codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedBytes encoded) {
+        byte[] encodedEvent = codec.encode(event);
+        encoded.bytes += encodedEvent.length;
+
+        return encodedEvent;
+    }
+
+    @Benchmark
+    public DomainEvent decode() {
+        return codec.decode(body);
+    }
+
+    /**
+     * Counts the encoded bytes, so the results report the size of the
+     * encoded event besides the operations per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class EncodedBytes {
+        public long bytes;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.Utils;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This benchmark compares the events per second deserialized by looking up
+ * and invoking fromPrimitives reflectively on a throwaway instance, as it
+ * was done before, against the DomainEventJsonDeserializer backed by the
+ * DomainEventFactories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventJsonDeserializerBenchmark {
+    private DomainEventsInformation information;
+    private DomainEventJsonDeserializer deserializer;
+    private String body;
+
+    @Setup
+    public void setUp() throws Exception {
+        information = new DomainEventsInformation();
+        deserializer = new DomainEventJsonDeserializer(new DomainEventFactories(information));
+        body = DomainEventJsonSerializer.serialize(BenchmarkDomainEvent.random());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public DomainEvent deserializeWithReflection() throws Exception {
+        HashMap<String, Serializable> eventData = Utils.jsonDecode(body);
+        HashMap<String, Serializable> data = (HashMap<String, Serializable>) eventData.get("data");
+        HashMap<String, Serializable> attributes = (HashMap<String, Serializable>) data.get("attributes");
+        Class<? extends DomainEvent> domainEventClass = information.forName((String) data.get("type"));
+
+        DomainEvent nullInstance = domainEventClass.getConstructor().newInstance();
+
+        Method fromPrimitivesMethod = domainEventClass.getMethod(
+                "fromPrimitives",
+                String.class,
+                HashMap.class,
+                String.class,
+                String.class);
+
+        return (DomainEvent) fromPrimitivesMethod.invoke(
+                nullInstance,
+                (String) attributes.get("id"),
+                attributes,
+                (String) data.get("id"),
+                (String) data.get("occurred_on"));
+    }
+
+    @Benchmark
+    public DomainEvent deserializeWithFactories() {
+        return deserializer.deserialize(body);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This benchmark compares serializing and deserializing an event through
+ * its primitives map against the same event declared as a typed domain
+ * event, whose attributes are written and read straight from its record.
+ * Both events have the same attributes and produce the same envelope. The
+ * allocation per event is reported by the gc profiler as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedDomainEventBenchmark {
+    private DomainEventJsonDeserializer deserializer;
+    private DomainEvent primitivesEvent;
+    private DomainEvent typedEvent;
+    private byte[] primitivesBody;
+    private byte[] typedBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        deserializer = new DomainEventJsonDeserializer(new DomainEventFactories(new DomainEventsInformation()));
+        primitivesEvent = BenchmarkDomainEvent.random();
+        typedEvent = BenchmarkTypedDomainEvent.random();
+        primitivesBody = DomainEventJsonSerializer.serializeToBytes(primitivesEvent);
+        typedBody = DomainEventJsonSerializer.serializeToBytes(typedEvent);
+    }
+
+    @Benchmark
+    public byte[] serializePrimitives() {
+        return DomainEventJsonSerializer.serializeToBytes(primitivesEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeTyped() {
+        return DomainEventJsonSerializer.serializeToBytes(typedEvent);
+    }
+
+    @Benchmark
+    public DomainEvent deserializePrimitives() {
+        return deserializer.deserialize(primitivesBody);
+    }
+
+    @Benchmark
+    public DomainEvent deserializeTyped() {
+        return deserializer.deserialize(typedBody);
+    }
+}
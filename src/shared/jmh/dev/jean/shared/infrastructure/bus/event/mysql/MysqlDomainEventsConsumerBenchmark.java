@@ -0,0 +1,177 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.EventBus;
+import dev.jean.shared.infrastructure.bus.event.BenchmarkDomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventFactories;
+import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+import dev.jean.shared.infrastructure.logger.Log4jLogger;
+
+/**
+ * This benchmark measures the time the MysqlDomainEventsConsumer takes to
+ * relay 10000 events of 500 aggregates, with 1, 2, 4 and 8 workers per
+ * consumer and 1 or 2 consumers claiming from the same table, as several
+ * nodes would. The bus waits 1ms per event, like a broker round trip, so
+ * the results show how the relay scales with the workers and consumers
+ * while the events of every aggregate stay in order.
+ *
+ * It needs a MySQL server, configured with the mysql.url, mysql.user and
+ * mysql.password system properties. The domain_events table is created if
+ * it doesn't exist and filled before every iteration. It has not been run
+ * against a MySQL server yet, so there are no results to compare with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MysqlDomainEventsConsumerBenchmark {
+    private static final Integer EVENTS = 10000;
+    private static final Integer AGGREGATES = 500;
+    private static final Long PUBLISH_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({ "1", "2", "4", "8" })
+    private int workers;
+
+    @Param({ "1", "2" })
+    private int consumers;
+
+    private SessionFactory sessionFactory;
+    private MysqlEventBus outboxBus;
+    private DomainEventFactories factories;
+    private List<String> aggregateIds;
+    private AtomicLong relayed;
+    private List<MysqlDomainEventsConsumer> relays;
+    private ExecutorService nodes;
+
+    @Setup
+    public void setUp() throws Exception {
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url",
+                        System.getProperty("mysql.url", "jdbc:mysql://localhost:3306/benchmark"))
+                .setProperty("hibernate.connection.username", System.getProperty("mysql.user", "root"))
+                .setProperty("hibernate.connection.password", System.getProperty("mysql.password", ""))
+                .setProperty("hibernate.current_session_context_class", "thread")
+                .buildSessionFactory();
+
+        this.inTransaction(session -> session.createNativeMutationQuery(
+                "CREATE TABLE IF NOT EXISTS domain_events (" +
+                        "seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE, " +
+                        "id CHAR(36) NOT NULL PRIMARY KEY, " +
+                        "aggregate_id CHAR(36) NOT NULL, " +
+                        "name VARCHAR(255) NOT NULL, " +
+                        "body JSON NOT NULL, " +
+                        "occurred_on TIMESTAMP NOT NULL, " +
+                        "INDEX aggregate_seq (aggregate_id, seq))")
+                .executeUpdate());
+
+        outboxBus = new MysqlEventBus(sessionFactory, 1000);
+        factories = new DomainEventFactories(new DomainEventsInformation());
+        aggregateIds = IntStream.range(0, AGGREGATES).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        nodes = Executors.newFixedThreadPool(consumers);
+    }
+
+    @Setup(Level.Iteration)
+    public void fillOutbox() {
+        List<DomainEvent> events = IntStream.range(0, EVENTS)
+                .mapToObj(i -> (DomainEvent) new BenchmarkDomainEvent(
+                        aggregateIds.get(i % AGGREGATES),
+                        "Jean",
+                        "jean@example.com",
+                        30))
+                .toList();
+
+        this.inTransaction(session -> outboxBus.publish(events));
+
+        relayed = new AtomicLong();
+        EventBus bus = relayedEvents -> {
+            LockSupport.parkNanos(PUBLISH_NANOS);
+            relayed.addAndGet(relayedEvents.size());
+        };
+        relays = IntStream.range(0, consumers)
+                .mapToObj(i -> new MysqlDomainEventsConsumer(
+                        new MysqlDomainEventsOutbox(sessionFactory),
+                        factories,
+                        bus,
+                        new Log4jLogger(),
+                        workers))
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        relays.forEach(MysqlDomainEventsConsumer::stop);
+        this.inTransaction(session -> session.createNativeMutationQuery("TRUNCATE TABLE domain_events")
+                .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        nodes.shutdown();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long relay() throws Exception {
+        List<Future<?>> running = new ArrayList<>(consumers);
+
+        for (MysqlDomainEventsConsumer consumer : relays) {
+            running.add(nodes.submit(() -> {
+                while (relayed.get() < EVENTS) {
+                    consumer.relayChunk();
+                }
+            }));
+        }
+
+        for (Future<?> node : running) {
+            node.get();
+        }
+
+        return relayed.get();
+    }
+
+    private void inTransaction(Consumer<Session> operation) {
+        Session session = sessionFactory.getCurrentSession();
+        Transaction transaction = session.beginTransaction();
+
+        try {
+            operation.accept(session);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            transaction.rollback();
+
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.infrastructure.bus.event.BenchmarkDomainEvent;
+
+/**
+ * This benchmark measures the events inserted per second by the
+ * MysqlEventBus for batches of 1, 10, 100 and 1000 events.
+ *
+ * It needs a MySQL server, configured with the mysql.url, mysql.user and
+ * mysql.password system properties. The domain_events table is created if
+ * it doesn't exist and truncated after every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MysqlEventBusBenchmark {
+    @Param({ "1", "10", "100", "1000" })
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private MysqlEventBus bus;
+    private List<DomainEvent> events;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url",
+                        System.getProperty("mysql.url", "jdbc:mysql://localhost:3306/benchmark"))
+                .setProperty("hibernate.connection.username", System.getProperty("mysql.user", "root"))
+                .setProperty("hibernate.connection.password", System.getProperty("mysql.password", ""))
+                .setProperty("hibernate.current_session_context_class", "thread")
+                .buildSessionFactory();
+
+        this.inTransaction(session -> session.createNativeMutationQuery(
+                "CREATE TABLE IF NOT EXISTS domain_events (" +
+                        "seq BIGINT NOT NULL AUTO_INCREMENT UNIQUE, " +
+                        "id CHAR(36) NOT NULL PRIMARY KEY, " +
+                        "aggregate_id CHAR(36) NOT NULL, " +
+                        "name VARCHAR(255) NOT NULL, " +
+                        "body JSON NOT NULL, " +
+                        "occurred_on TIMESTAMP NOT NULL)")
+                .executeUpdate());
+
+        bus = new MysqlEventBus(sessionFactory, 1000);
+    }
+
+    @Setup(Level.Invocation)
+    public void createEvents() {
+        events = Stream.generate(BenchmarkDomainEvent::random)
+                .limit(batchSize)
+                .map(DomainEvent.class::cast)
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        this.inTransaction(session -> session.createNativeMutationQuery("TRUNCATE TABLE domain_events")
+                .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void publish(InsertedEvents inserted) {
+        this.inTransaction(session -> bus.publish(events));
+        inserted.events += batchSize;
+    }
+
+    private void inTransaction(Consumer<Session> operation) {
+        Session session = sessionFactory.getCurrentSession();
+        Transaction transaction = session.beginTransaction();
+
+        try {
+            operation.accept(session);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            transaction.rollback();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Counts the inserted events, so the results are reported as events per
+     * second besides batches per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class InsertedEvents {
+        public long events;
+    }
+}
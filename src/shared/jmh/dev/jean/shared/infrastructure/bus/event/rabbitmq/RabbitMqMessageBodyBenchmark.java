@@ -0,0 +1,67 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.infrastructure.bus.event.BenchmarkDomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventFactories;
+import dev.jean.shared.infrastructure.bus.event.DomainEventJsonDeserializer;
+import dev.jean.shared.infrastructure.bus.event.DomainEventJsonSerializer;
+import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+
+/**
+ * This benchmark compares building and reading a RabbitMQ message body
+ * through an intermediate string against writing and parsing the UTF-8
+ * bytes directly. Run it with the gc profiler (`-prof gc`) to compare the
+ * bytes allocated per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RabbitMqMessageBodyBenchmark {
+    private DomainEventJsonDeserializer deserializer;
+    private DomainEvent event;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        deserializer = new DomainEventJsonDeserializer(new DomainEventFactories(new DomainEventsInformation()));
+        event = BenchmarkDomainEvent.random();
+        body = DomainEventJsonSerializer.serializeToBytes(event);
+    }
+
+    @Benchmark
+    public byte[] writeThroughString() {
+        return DomainEventJsonSerializer.serialize(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() {
+        return DomainEventJsonSerializer.serializeToBytes(event);
+    }
+
+    @Benchmark
+    public DomainEvent readThroughString() {
+        return deserializer.deserialize(new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public DomainEvent readBytes() {
+        return deserializer.deserialize(body);
+    }
+}
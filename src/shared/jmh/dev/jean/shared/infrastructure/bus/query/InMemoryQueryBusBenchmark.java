@@ -0,0 +1,126 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+import dev.jean.shared.domain.bus.query.Query;
+import dev.jean.shared.domain.bus.query.QueryHandler;
+import dev.jean.shared.domain.bus.query.Response;
+
+/**
+ * This benchmark compares asking a query by searching and resolving its
+ * handler on every call against asking it through the handlers table bound
+ * once the application context is refreshed, with 1, 10 and 100 registered
+ * handlers.
+ *
+ * Every registered query is a hidden class defined from BenchmarkQuery, so
+ * the handlers table holds as many distinct query classes as handlers. They
+ * all share the same handler bean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryQueryBusBenchmark {
+    @Param({ "1", "10", "100" })
+    private int registeredHandlers;
+
+    private GenericApplicationContext context;
+    private InMemoryQueryBus lookupBus;
+    private InMemoryQueryBus boundBus;
+    private Query[] queries;
+    private int next;
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Setup
+    public void setUp() throws Throwable {
+        context = new GenericApplicationContext();
+        context.registerBean(BenchmarkQueryHandler.class);
+        context.refresh();
+
+        HashMap<Class<? extends Query>, Class<? extends QueryHandler>> handlers = new HashMap<>();
+        queries = new Query[registeredHandlers];
+
+        byte[] queryClassBytes = queryClassBytes();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (int i = 0; i < registeredHandlers; i++) {
+            MethodHandles.Lookup queryLookup = lookup.defineHiddenClass(queryClassBytes, true);
+            Class<? extends Query> queryClass = (Class<? extends Query>) queryLookup.lookupClass();
+
+            queries[i] = (Query) queryLookup.findConstructor(queryClass, MethodType.methodType(void.class)).invoke();
+            handlers.put(queryClass, BenchmarkQueryHandler.class);
+        }
+
+        QueryHandlersInformation information = new QueryHandlersInformation(handlers);
+
+        lookupBus = new InMemoryQueryBus(information, context);
+        boundBus = new InMemoryQueryBus(information, context);
+        boundBus.onApplicationEvent(new ContextRefreshedEvent(context));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Response askSearchingTheHandler() {
+        return lookupBus.ask(nextQuery());
+    }
+
+    @Benchmark
+    public Response askThroughTheHandlersTable() {
+        return boundBus.ask(nextQuery());
+    }
+
+    private Query nextQuery() {
+        Query query = queries[next];
+        next = next + 1 == queries.length ? 0 : next + 1;
+
+        return query;
+    }
+
+    private static byte[] queryClassBytes() throws IOException {
+        try (InputStream classFile = InMemoryQueryBusBenchmark.class
+                .getResourceAsStream("InMemoryQueryBusBenchmark$BenchmarkQuery.class")) {
+            return classFile.readAllBytes();
+        }
+    }
+
+    public static final class BenchmarkQuery implements Query {
+    }
+
+    public static final class BenchmarkResponse implements Response {
+    }
+
+    public static final class BenchmarkQueryHandler implements QueryHandler<Query, BenchmarkResponse> {
+        private final BenchmarkResponse response = new BenchmarkResponse();
+
+        @Override
+        public BenchmarkResponse handle(Query query) {
+            return response;
+        }
+    }
+}
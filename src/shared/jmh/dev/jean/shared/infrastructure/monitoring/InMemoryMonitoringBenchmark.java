@@ -0,0 +1,79 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.Monitoring;
+
+/**
+ * This benchmark measures the nanoseconds to record on one metric shared by
+ * 32 threads, for the counter, the gauge and the histogram, through the
+ * Monitoring adapter and through a Metrics.Histogram handle resolved once.
+ * The gc profiler shows the allocation rate of the record path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class InMemoryMonitoringBenchmark {
+    private Monitoring monitoring;
+    private HashMap<String, String> labels;
+    private Metrics.Histogram histogram;
+
+    @State(Scope.Thread)
+    public static class Value {
+        private int value;
+
+        public int next() {
+            value = (value + 7919) & 0xFFFFF;
+
+            return value;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        monitoring = registry.monitoring("benchmark_bus_dispatch");
+        histogram = registry.histogram("benchmark_bus_dispatch_latency", "command", "CreateUser");
+        labels = new HashMap<>();
+        labels.put("command", "CreateUser");
+    }
+
+    @Benchmark
+    public void incrementCounter() {
+        monitoring.incrementCounter(1);
+    }
+
+    @Benchmark
+    public void incrementGauge() {
+        monitoring.incrementGauge(1);
+    }
+
+    @Benchmark
+    public void observeHistogram(Value value) {
+        monitoring.observeHistogram(value.next(), labels);
+    }
+
+    @Benchmark
+    public void recordOnHistogramHandle(Value value) {
+        histogram.record(value.next());
+    }
+}
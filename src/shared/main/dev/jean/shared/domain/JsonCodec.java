@@ -0,0 +1,137 @@
+package dev.jean.shared.domain;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * JSON codec shared by the whole application. The mapper, reader and writer
+ * are built once and are thread safe, and the mapper is not exposed, so its
+ * configuration can't be changed while it is in use. Encoding to bytes
+ * streams the JSON into a buffer of the call, sized for a typical event, so
+ * it works the same on virtual threads, where a buffer per thread would be
+ * allocated for every task and never reused.
+ */
+public final class JsonCodec {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+    private static final ObjectReader MAP_READER = MAPPER.readerFor(
+            new TypeReference<HashMap<String, Serializable>>() {
+            });
+    private static final Integer INITIAL_BUFFER_SIZE = 512;
+
+    /**
+     * Writes JSON content through a generator.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Encodes a map to a JSON string.
+     *
+     * @param map Map to encode.
+     * @return JSON string representation of the map.
+     * @throws UncheckedIOException If the map can't be encoded.
+     */
+    public static String encode(Map<String, ? extends Serializable> map) {
+        try {
+            return WRITER.writeValueAsString(map);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes a map to UTF-8 JSON bytes.
+     *
+     * @param map Map to encode.
+     * @return UTF-8 JSON representation of the map.
+     * @throws UncheckedIOException If the map can't be encoded.
+     */
+    public static byte[] encodeToBytes(Map<String, ? extends Serializable> map) {
+        return encodeToBytes(generator -> WRITER.writeValue(generator, map));
+    }
+
+    /**
+     * Streams JSON content to UTF-8 bytes.
+     *
+     * @param writer Writer of the JSON content.
+     * @return UTF-8 JSON bytes written.
+     * @throws UncheckedIOException If the content can't be written.
+     */
+    public static byte[] encodeToBytes(Writer writer) {
+        ByteArrayBuilder buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+
+        try (JsonGenerator generator = MAPPER.createGenerator(buffer)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes a JSON string to a map.
+     *
+     * @param json JSON string to decode.
+     * @return Map representation of the JSON string.
+     * @throws UncheckedIOException If the JSON can't be decoded.
+     */
+    public static HashMap<String, Serializable> decode(String json) {
+        try {
+            return MAP_READER.readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes UTF-8 JSON bytes to a map.
+     *
+     * @param json UTF-8 JSON bytes to decode.
+     * @return Map representation of the JSON.
+     * @throws UncheckedIOException If the JSON can't be decoded.
+     */
+    public static HashMap<String, Serializable> decode(byte[] json) {
+        try {
+            return MAP_READER.readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a parser of a JSON string, which can read values of any type.
+     *
+     * @param json JSON string to parse.
+     * @return The parser.
+     * @throws IOException If the parser can't be created.
+     */
+    public static JsonParser createParser(String json) throws IOException {
+        return MAPPER.createParser(json);
+    }
+
+    /**
+     * Creates a parser of UTF-8 JSON bytes, which can read values of any type.
+     *
+     * @param json UTF-8 JSON bytes to parse.
+     * @return The parser.
+     * @throws IOException If the parser can't be created.
+     */
+    public static JsonParser createParser(byte[] json) throws IOException {
+        return MAPPER.createParser(json);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.jean.shared.domain;
+
+/**
+ * This interface represents the metrics of the application. A labelled
+ * series is resolved once into a handle, which callers keep and record on,
+ * so recording doesn't build labels or look the series up.
+ *
+ * The labels are given as name and value pairs, e.g.
+ * histogram("bus_dispatch", "command", "CreateUser").
+ */
+public interface Metrics {
+    /**
+     * Returns the handle of a counter series, creating it the first time.
+     *
+     * @param name   The metric name.
+     * @param labels The label names and values, in pairs.
+     * @return The counter.
+     */
+    Counter counter(String name, String... labels);
+
+    /**
+     * Returns the handle of a gauge series, creating it the first time.
+     *
+     * @param name   The metric name.
+     * @param labels The label names and values, in pairs.
+     * @return The gauge.
+     */
+    Gauge gauge(String name, String... labels);
+
+    /**
+     * Returns the handle of a histogram series, creating it the first time.
+     *
+     * @param name   The metric name.
+     * @param labels The label names and values, in pairs.
+     * @return The histogram.
+     */
+    Histogram histogram(String name, String... labels);
+
+    /**
+     * This interface represents a counter series.
+     */
+    interface Counter {
+        /**
+         * Increments the counter.
+         *
+         * @param times The number of times to increment the counter.
+         */
+        void increment(long times);
+    }
+
+    /**
+     * This interface represents a gauge series.
+     */
+    interface Gauge {
+        /**
+         * Adds to the gauge, or subtracts from it with a negative amount.
+         *
+         * @param amount The amount to add.
+         */
+        void add(long amount);
+
+        /**
+         * Sets the gauge.
+         *
+         * @param value The value to set the gauge to.
+         */
+        void set(long value);
+    }
+
+    /**
+     * This interface represents a histogram series.
+     */
+    interface Histogram {
+        /**
+         * Records a value, e.g. a latency in nanoseconds.
+         *
+         * @param value The value to record.
+         */
+        void record(long value);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.HashMap;
 
 /**
  * This interface represents a monitoring.
+ *
+ * @see Metrics for labelled series recorded through handles.
  */
 public interface Monitoring {
     /**
@@ -4,12 +4,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.sql.Timestamp;
 import java.util.HashMap;
-import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
 
 /**
@@ -44,8 +41,8 @@ public final class Utils {
      */
     public static String jsonEncode(HashMap<String, Serializable> map) {
         try {
-            return new ObjectMapper().writeValueAsString(map);
-        } catch (JsonProcessingException e) {
+            return JsonCodec.encode(map);
+        } catch (UncheckedIOException e) {
             return "";
         }
     }
@@ -58,10 +55,8 @@ public final class Utils {
      */
     public static HashMap<String, Serializable> jsonDecode(String body) {
         try {
-            return new ObjectMapper().readValue(body,
-                    new TypeReference<HashMap<String, Serializable>>() {
-                    });
-        } catch (IOException e) {
+            return JsonCodec.decode(body);
+        } catch (UncheckedIOException e) {
             return null;
         }
     }
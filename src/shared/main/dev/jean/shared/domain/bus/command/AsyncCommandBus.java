@@ -0,0 +1,20 @@
+package dev.jean.shared.domain.bus.command;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This interface represents a command bus that handles the commands
+ * asynchronously.
+ */
+public interface AsyncCommandBus {
+    /**
+     * Dispatches a command without waiting for its handler.
+     * 
+     * @param command the command
+     * @return a future completed when the command has been handled. It is
+     *         completed exceptionally with the CommandHandlerExecutionError
+     *         thrown by the handler, or with a CommandRejectedError when the
+     *         bus is saturated and the command is not handled.
+     */
+    CompletableFuture<Void> dispatch(Command command);
+}
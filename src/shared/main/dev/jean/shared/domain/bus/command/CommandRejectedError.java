@@ -0,0 +1,11 @@
+package dev.jean.shared.domain.bus.command;
+
+/**
+ * This class represents a command rejected because the command bus is
+ * saturated.
+ */
+public final class CommandRejectedError extends RuntimeException {
+    public CommandRejectedError(Class<? extends Command> command) {
+        super(String.format("The command <%s> has been rejected, the command bus is saturated", command.toString()));
+    }
+}
@@ -0,0 +1,20 @@
+package dev.jean.shared.domain.bus.event;
+
+import java.util.List;
+
+/**
+ * This interface is implemented by the domain event subscribers that handle
+ * their events in batches. They receive up to the batch size declared in
+ * their DomainEventSubscriber annotation in a single call, instead of one
+ * call per event.
+ *
+ * @see DomainEventSubscriber
+ */
+public interface BatchDomainEventSubscriber {
+    /**
+     * Handles a batch of events, in the order they were delivered.
+     * 
+     * @param domainEvents The events.
+     */
+    void on(List<DomainEvent> domainEvents);
+}
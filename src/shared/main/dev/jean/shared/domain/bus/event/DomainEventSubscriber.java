@@ -11,4 +11,37 @@ import java.lang.annotation.Target;
 @Inherited
 public @interface DomainEventSubscriber {
     Class<? extends DomainEvent>[] value();
+
+    /**
+     * Concurrent consumers of the subscriber queue, as a fixed number, like
+     * "4", or as a range scaled on demand, like "2-8".
+     */
+    String concurrency() default "1";
+
+    /**
+     * Messages sent to every consumer before they are acknowledged.
+     */
+    int prefetch() default 250;
+
+    /**
+     * Maximum number of events delivered at once to a batch subscriber.
+     */
+    int batchSize() default 1;
+
+    /**
+     * Whether every delivered event is handled on its own virtual thread,
+     * acknowledging it once handled. Doesn't apply to batch subscribers.
+     */
+    boolean virtualThreads() default false;
+
+    /**
+     * Maximum number of events handled at the same time on virtual threads.
+     */
+    int maxInFlight() default 256;
+
+    /**
+     * Times a failed event is retried before it is sent to the dead letter
+     * queue. By default, once per retry tier.
+     */
+    int maxRetries() default -1;
 }
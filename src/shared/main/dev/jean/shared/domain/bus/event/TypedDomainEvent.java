@@ -0,0 +1,30 @@
+package dev.jean.shared.domain.bus.event;
+
+/**
+ * This interface is implemented by the domain events whose attributes are
+ * declared as a record. Their attributes are serialized field by field from
+ * the record, instead of going through the primitives map, which is kept as
+ * a fallback. The record can't have an `id` component, because that
+ * attribute holds the aggregate ID.
+ *
+ * @param <A> The record with the attributes of the event.
+ */
+public interface TypedDomainEvent<A extends Record> {
+    /**
+     * Returns the event attributes.
+     * 
+     * @return Event attributes.
+     */
+    A attributes();
+
+    /**
+     * Creates a domain event from its attributes.
+     * 
+     * @param aggregateId Aggregate ID.
+     * @param attributes  Event attributes.
+     * @param eventId     Event ID.
+     * @param occurredOn  Event occurred on.
+     * @return Domain event.
+     */
+    DomainEvent fromAttributes(String aggregateId, A attributes, String eventId, String occurredOn);
+}
@@ -0,0 +1,13 @@
+package dev.jean.shared.domain.bus.query;
+
+/**
+ * This interface represents a query that reads a single aggregate.
+ */
+public interface AggregateQuery extends Query {
+    /**
+     * Returns the id of the aggregate read by the query.
+     * 
+     * @return Aggregate ID.
+     */
+    String aggregateId();
+}
@@ -0,0 +1,27 @@
+package dev.jean.shared.domain.bus.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a query whose responses can be cached. The query
+ * must implement equals and hashCode, because responses are cached by query
+ * value.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface CacheableQuery {
+    /**
+     * Seconds a response is kept since it was cached.
+     */
+    long ttl() default 5;
+
+    /**
+     * Maximum number of responses kept for the query type.
+     */
+    long maximumSize() default 1000;
+}
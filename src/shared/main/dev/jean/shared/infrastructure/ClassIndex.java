@@ -0,0 +1,182 @@
+package dev.jean.shared.infrastructure;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.infrastructure.logger.Log4jLogger;
+
+/**
+ * This class is responsible for reading the class index generated at
+ * compile time by the class index processor: the command handlers, the query
+ * handlers, the domain events and the domain event subscribers. Every module
+ * compiled with the processor contributes its own index resource, and all of
+ * them are merged.
+ *
+ * When there is no index in the classpath, or it is disabled with the
+ * `dev.jean.class-index.disabled` system property, the classes have to be
+ * scanned for instead. The index is used as soon as one module has one, so
+ * the indexes read are logged, as the classes of a module compiled without
+ * the processor would be missing.
+ */
+public final class ClassIndex {
+    private static final String INDEX = "META-INF/dev.jean/class-index";
+    private static final String DISABLED = "dev.jean.class-index.disabled";
+    private static final Logger LOGGER = new Log4jLogger(ClassIndex.class.getName());
+    private final Map<String, String> commandHandlers;
+    private final Map<String, String> queryHandlers;
+    private final List<Map.Entry<String, String>> domainEvents;
+    private final List<String> domainEventSubscribers;
+
+    private ClassIndex(
+            Map<String, String> commandHandlers,
+            Map<String, String> queryHandlers,
+            List<Map.Entry<String, String>> domainEvents,
+            List<String> domainEventSubscribers) {
+        this.commandHandlers = commandHandlers;
+        this.queryHandlers = queryHandlers;
+        this.domainEvents = domainEvents;
+        this.domainEventSubscribers = domainEventSubscribers;
+    }
+
+    /**
+     * Loads the class index of the classpath.
+     * 
+     * @return The class index, or empty if there is no index or it is
+     *         disabled.
+     * @throws UncheckedIOException If an index can't be read.
+     */
+    public static Optional<ClassIndex> load() {
+        if (Boolean.getBoolean(DISABLED)) {
+            LOGGER.info(String.format("The class index is disabled by %s, the classes are scanned", DISABLED));
+
+            return Optional.empty();
+        }
+
+        try {
+            Enumeration<URL> indexes = classLoader().getResources(INDEX);
+
+            if (!indexes.hasMoreElements()) {
+                LOGGER.warning("There is no class index in the classpath, the classes are scanned");
+
+                return Optional.empty();
+            }
+
+            LinkedHashMap<String, String> commandHandlers = new LinkedHashMap<>();
+            LinkedHashMap<String, String> queryHandlers = new LinkedHashMap<>();
+            List<Map.Entry<String, String>> domainEvents = new ArrayList<>();
+            List<String> domainEventSubscribers = new ArrayList<>();
+
+            List<URL> indexUrls = Collections.list(indexes);
+
+            for (URL index : indexUrls) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+
+                    while (null != (line = reader.readLine())) {
+                        String[] entry = line.split("\t", -1);
+
+                        switch (entry[0]) {
+                            case "command" -> commandHandlers.put(entry[1], entry[2]);
+                            case "query" -> queryHandlers.put(entry[1], entry[2]);
+                            case "event" -> domainEvents.add(Map.entry(entry[1], entry[2]));
+                            case "subscriber" -> domainEventSubscribers.add(entry[1]);
+                            default -> {
+                            }
+                        }
+                    }
+                }
+            }
+
+            HashMap<String, Serializable> context = new HashMap<>();
+            context.put("indexes", indexUrls.stream().map(URL::toString).collect(Collectors.joining(",")));
+            context.put("command_handlers", commandHandlers.size());
+            context.put("query_handlers", queryHandlers.size());
+            context.put("domain_events", domainEvents.size());
+            context.put("domain_event_subscribers", domainEventSubscribers.size());
+
+            LOGGER.info("The class index is used", context);
+
+            return Optional.of(new ClassIndex(
+                    Collections.unmodifiableMap(commandHandlers),
+                    Collections.unmodifiableMap(queryHandlers),
+                    List.copyOf(domainEvents),
+                    List.copyOf(domainEventSubscribers)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads a class of the index.
+     * 
+     * @param name The binary name of the class.
+     * @return The class.
+     * @throws IllegalStateException If the class doesn't exist anymore.
+     */
+    public static Class<?> forName(String name) {
+        try {
+            return Class.forName(name, false, classLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(String.format("The indexed class <%s> doesn't exist", name), e);
+        }
+    }
+
+    /**
+     * Returns the command handler class names by command class name.
+     * 
+     * @return Command handlers.
+     */
+    public Map<String, String> commandHandlers() {
+        return this.commandHandlers;
+    }
+
+    /**
+     * Returns the query handler class names by query class name.
+     * 
+     * @return Query handlers.
+     */
+    public Map<String, String> queryHandlers() {
+        return this.queryHandlers;
+    }
+
+    /**
+     * Returns the domain event class names with their event names. The event
+     * name is empty when it couldn't be known at compile time.
+     * 
+     * @return Domain events, as event name and class name entries.
+     */
+    public List<Map.Entry<String, String>> domainEvents() {
+        return this.domainEvents;
+    }
+
+    /**
+     * Returns the domain event subscriber class names.
+     * 
+     * @return Domain event subscribers.
+     */
+    public List<String> domainEventSubscribers() {
+        return this.domainEventSubscribers;
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        return null == classLoader ? ClassIndex.class.getClassLoader() : classLoader;
+    }
+}
@@ -4,8 +4,10 @@ import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.command.Command;
 import dev.jean.shared.domain.bus.command.CommandHandler;
 import dev.jean.shared.domain.bus.command.CommandNotRegisteredError;
+import dev.jean.shared.infrastructure.ClassIndex;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.lang.reflect.ParameterizedType;
 
@@ -17,11 +19,15 @@ public class CommandHandlersInformation {
     HashMap<Class<? extends Command>, Class<? extends CommandHandler>> indexedCommandHandlers;
 
     @SuppressWarnings("rawtypes")
-    public CommandHandlersInformation() {
-        Reflections reflections = new Reflections("dev.jean");
-        Set<Class<? extends CommandHandler>> classes = reflections.getSubTypesOf(CommandHandler.class);
+    public CommandHandlersInformation(
+            HashMap<Class<? extends Command>, Class<? extends CommandHandler>> indexedCommandHandlers) {
+        this.indexedCommandHandlers = indexedCommandHandlers;
+    }
 
-        indexedCommandHandlers = this.formatHandlers(classes);
+    public CommandHandlersInformation() {
+        this(ClassIndex.load()
+                .map(CommandHandlersInformation::fromIndex)
+                .orElseGet(CommandHandlersInformation::scan));
     }
 
     @SuppressWarnings("rawtypes")
@@ -36,8 +42,47 @@ public class CommandHandlersInformation {
         return commandHandlerClass;
     }
 
+    /**
+     * Returns every command indexed with the class of its handler.
+     * 
+     * @return Command handler classes by command class.
+     */
+    @SuppressWarnings("rawtypes")
+    public Map<Class<? extends Command>, Class<? extends CommandHandler>> all() {
+        return indexedCommandHandlers;
+    }
+
+    /**
+     * Indexes the handlers listed in the class index generated at compile time.
+     * 
+     * @param index The class index.
+     * @return Command handler classes by command class.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static HashMap<Class<? extends Command>, Class<? extends CommandHandler>> fromIndex(ClassIndex index) {
+        HashMap<Class<? extends Command>, Class<? extends CommandHandler>> handlers = new HashMap<>();
+
+        index.commandHandlers().forEach((commandClass, handlerClass) -> handlers.put(
+                (Class<? extends Command>) ClassIndex.forName(commandClass),
+                (Class<? extends CommandHandler>) ClassIndex.forName(handlerClass)));
+
+        return handlers;
+    }
+
+    /**
+     * Indexes the handlers scanning the classpath, when there is no class index.
+     * 
+     * @return Command handler classes by command class.
+     */
+    @SuppressWarnings("rawtypes")
+    private static HashMap<Class<? extends Command>, Class<? extends CommandHandler>> scan() {
+        Reflections reflections = new Reflections("dev.jean");
+
+        return formatHandlers(reflections.getSubTypesOf(CommandHandler.class));
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private HashMap<Class<? extends Command>, Class<? extends CommandHandler>> formatHandlers(
+    private static HashMap<Class<? extends Command>, Class<? extends CommandHandler>> formatHandlers(
             Set<Class<? extends CommandHandler>> commandHandlers) {
         HashMap<Class<? extends Command>, Class<? extends CommandHandler>> handlers = new HashMap<>();
 
@@ -0,0 +1,125 @@
+package dev.jean.shared.infrastructure.bus.command;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.command.AsyncCommandBus;
+import dev.jean.shared.domain.bus.command.Command;
+import dev.jean.shared.domain.bus.command.CommandRejectedError;
+import dev.jean.shared.infrastructure.config.Parameter;
+
+/**
+ * This class is responsible for dispatching commands asynchronously.
+ * Every command is handled by the InMemoryCommandBus on its own virtual
+ * thread. The number of commands handled at the same time is limited, and
+ * every command type has its own bulkhead, so a slow command type can't
+ * take all the permits.
+ *
+ * The permits are taken by the caller before the command is submitted, so
+ * a saturated bus pushes back on its callers: they wait up to the acquire
+ * timeout, and then the command is rejected with a CommandRejectedError,
+ * without starting a thread for it.
+ *
+ * @see InMemoryCommandBus
+ */
+@Service
+public final class InMemoryAsyncCommandBus implements AsyncCommandBus, AutoCloseable {
+    private static final Integer DEFAULT_MAX_CONCURRENCY = 256;
+    private static final Integer DEFAULT_MAX_CONCURRENCY_PER_COMMAND = 32;
+    private static final Integer DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 100;
+    private final InMemoryCommandBus bus;
+    private final Semaphore concurrency;
+    private final Integer maxConcurrencyPerCommand;
+    private final Integer acquireTimeoutMillis;
+    private final ConcurrentHashMap<Class<? extends Command>, Semaphore> bulkheads = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public InMemoryAsyncCommandBus(InMemoryCommandBus bus, Parameter config) {
+        this.bus = bus;
+        this.concurrency = new Semaphore(
+                config.getInt("COMMAND_BUS_MAX_CONCURRENCY", DEFAULT_MAX_CONCURRENCY));
+        this.maxConcurrencyPerCommand = config.getInt(
+                "COMMAND_BUS_MAX_CONCURRENCY_PER_COMMAND", DEFAULT_MAX_CONCURRENCY_PER_COMMAND);
+        this.acquireTimeoutMillis = config.getInt(
+                "COMMAND_BUS_ACQUIRE_TIMEOUT_MS", DEFAULT_ACQUIRE_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(Command command) {
+        Semaphore bulkhead = bulkheads.computeIfAbsent(
+                command.getClass(),
+                commandClass -> new Semaphore(this.maxConcurrencyPerCommand));
+
+        if (!this.acquire(bulkhead)) {
+            return CompletableFuture.failedFuture(new CommandRejectedError(command.getClass()));
+        }
+
+        if (!this.acquire(concurrency)) {
+            bulkhead.release();
+
+            return CompletableFuture.failedFuture(new CommandRejectedError(command.getClass()));
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> this.handle(command, bulkhead, future));
+        } catch (RejectedExecutionException e) {
+            concurrency.release();
+            bulkhead.release();
+            future.completeExceptionally(new CommandRejectedError(command.getClass()));
+        }
+
+        return future;
+    }
+
+    /**
+     * Handles the command and releases its permits.
+     *
+     * @param command  The command to handle.
+     * @param bulkhead The bulkhead of the command type, already acquired.
+     * @param future   The future to complete with the result of the handler.
+     */
+    private void handle(Command command, Semaphore bulkhead, CompletableFuture<Void> future) {
+        try {
+            bus.dispatch(command);
+            future.complete(null);
+        } catch (Throwable e) {
+            // Completed with the cause itself, not wrapped in a CompletionException
+            future.completeExceptionally(e);
+        } finally {
+            concurrency.release();
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Takes a permit, waiting up to the acquire timeout.
+     *
+     * @param semaphore The semaphore to take the permit from.
+     * @return True if the permit has been taken.
+     */
+    private boolean acquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    /**
+     * Waits for the commands already dispatched and stops accepting new ones.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
@@ -1,33 +1,90 @@
 package dev.jean.shared.infrastructure.bus.command;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.command.Command;
 import dev.jean.shared.domain.bus.command.CommandBus;
 import dev.jean.shared.domain.bus.command.CommandHandler;
 import dev.jean.shared.domain.bus.command.CommandHandlerExecutionError;
+import dev.jean.shared.domain.bus.command.CommandNotRegisteredError;
 
+/**
+ * This class is responsible for dispatching commands to their handlers.
+ * Once the application context is refreshed, every handler bean is resolved
+ * and kept in an immutable table indexed by command class, so dispatching
+ * doesn't go through the application context anymore. Until then, handlers
+ * are searched and resolved on every dispatch.
+ *
+ * @see CommandHandlersInformation
+ */
 @Service
-public class InMemoryCommandBus implements CommandBus {
+public class InMemoryCommandBus implements CommandBus, ApplicationListener<ContextRefreshedEvent> {
     private final CommandHandlersInformation information;
     private final ApplicationContext context;
+    @SuppressWarnings("rawtypes")
+    private volatile Map<Class<? extends Command>, CommandHandler> handlers = Map.of();
 
     public InMemoryCommandBus(CommandHandlersInformation information, ApplicationContext context) {
         this.information = information;
         this.context = context;
     }
 
+    /**
+     * Resolves the handler bean of every registered command once the
+     * application context has been refreshed.
+     *
+     * @param event The context refreshed event.
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+
+        HashMap<Class<? extends Command>, CommandHandler> resolvedHandlers = new HashMap<>();
+
+        information.all().forEach(
+                (commandClass, commandHandlerClass) -> resolvedHandlers.put(
+                        commandClass,
+                        context.getBean(commandHandlerClass)));
+
+        this.handlers = Map.copyOf(resolvedHandlers);
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public void dispatch(Command command) throws CommandHandlerExecutionError {
         try {
-            Class<? extends CommandHandler> commandHandlerClass = information.search(command.getClass());
-            CommandHandler handler = context.getBean(commandHandlerClass);
+            CommandHandler handler = handlers.get(command.getClass());
+
+            if (null == handler) {
+                handler = this.resolve(command.getClass());
+            }
 
             handler.handle(command);
         } catch (Exception e) {
             throw new CommandHandlerExecutionError(e);
         }
     }
+
+    /**
+     * Resolves the handler of a command that is not in the handlers table.
+     *
+     * @param commandClass The command class.
+     * @return The command handler.
+     * @throws CommandNotRegisteredError
+     */
+    @SuppressWarnings("rawtypes")
+    private CommandHandler resolve(Class<? extends Command> commandClass) throws CommandNotRegisteredError {
+        Class<? extends CommandHandler> commandHandlerClass = information.search(commandClass);
+
+        return context.getBean(commandHandlerClass);
+    }
 }
@@ -0,0 +1,61 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This class encodes domain events as CBOR, a binary form of the same
+ * envelope written by the JSON codec, which is noticeably smaller.
+ *
+ * @see DomainEventJsonSerializer
+ */
+@Service
+public final class CborDomainEventCodec implements DomainEventCodec {
+    public static final String CONTENT_TYPE = "application/cbor";
+    private static final CBORMapper MAPPER = new CBORMapper();
+    private final DomainEventJsonDeserializer deserializer;
+
+    public CborDomainEventCodec(DomainEventJsonDeserializer deserializer) {
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public String contentEncoding() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent domainEvent) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+
+        try (JsonGenerator generator = MAPPER.createGenerator(body)) {
+            DomainEventJsonSerializer.write(domainEvent, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return body.toByteArray();
+    }
+
+    @Override
+    public DomainEvent decode(byte[] body) {
+        try (JsonParser parser = MAPPER.createParser(body)) {
+            return deserializer.deserialize(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
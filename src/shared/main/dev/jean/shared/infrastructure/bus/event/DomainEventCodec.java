@@ -0,0 +1,42 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This interface represents a format domain events can be encoded to when
+ * they are sent to the message broker. Every codec is identified by the
+ * content type of the messages it encodes.
+ *
+ * @see DomainEventCodecs
+ */
+public interface DomainEventCodec {
+    /**
+     * Returns the content type of the encoded events.
+     * 
+     * @return Content type.
+     */
+    String contentType();
+
+    /**
+     * Returns the content encoding of the encoded events, if they are text.
+     * 
+     * @return Content encoding, or null for binary formats.
+     */
+    String contentEncoding();
+
+    /**
+     * Encodes a domain event.
+     * 
+     * @param domainEvent The domain event.
+     * @return The encoded domain event.
+     */
+    byte[] encode(DomainEvent domainEvent);
+
+    /**
+     * Decodes a domain event.
+     * 
+     * @param body The encoded domain event.
+     * @return The domain event.
+     */
+    DomainEvent decode(byte[] body);
+}
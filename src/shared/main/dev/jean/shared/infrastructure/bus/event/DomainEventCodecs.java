@@ -0,0 +1,111 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.infrastructure.config.Parameter;
+
+/**
+ * This class is responsible for choosing the codec of the domain events.
+ * Events are published with the codec configured by the
+ * RABBITMQ_EVENTS_CONTENT_TYPE parameter (JSON by default), and consumed
+ * with the codec of the content type of every message, so queues with
+ * messages in different formats keep working while a format is rolled out.
+ * Content types are matched by their media type, so parameters like
+ * charset and the case of the type don't matter, and an unknown configured
+ * content type fails on startup instead of falling back to JSON.
+ *
+ * @see DomainEventCodec
+ */
+@Service
+public final class DomainEventCodecs {
+    private final Map<String, DomainEventCodec> codecs;
+    private final DomainEventCodec publishingCodec;
+    private final DomainEventCodec defaultCodec;
+
+    public DomainEventCodecs(List<DomainEventCodec> codecs, Parameter config) {
+        HashMap<String, DomainEventCodec> indexedCodecs = new HashMap<>();
+
+        codecs.forEach(codec -> indexedCodecs.put(mediaType(codec.contentType()), codec));
+
+        this.codecs = Map.copyOf(indexedCodecs);
+        this.defaultCodec = this.codecs.get(JsonDomainEventCodec.CONTENT_TYPE);
+
+        String publishingContentType = config.get(
+                "RABBITMQ_EVENTS_CONTENT_TYPE",
+                JsonDomainEventCodec.CONTENT_TYPE);
+        this.publishingCodec = this.find(publishingContentType);
+
+        if (null == this.publishingCodec) {
+            throw new IllegalArgumentException(String.format(
+                    "The RABBITMQ_EVENTS_CONTENT_TYPE <%s> has no codec, the supported ones are %s",
+                    publishingContentType,
+                    this.codecs.keySet()));
+        }
+    }
+
+    /**
+     * Returns the codec used to publish domain events.
+     * 
+     * @return The publishing codec.
+     */
+    public DomainEventCodec publishing() {
+        return publishingCodec;
+    }
+
+    /**
+     * Returns the codec of a content type. Messages without content type, or
+     * with an unknown one, are decoded as JSON.
+     * 
+     * @param contentType The content type of the message.
+     * @return The codec.
+     */
+    public DomainEventCodec forContentType(String contentType) {
+        if (null == contentType) {
+            return defaultCodec;
+        }
+
+        DomainEventCodec codec = this.find(contentType);
+
+        return null == codec ? defaultCodec : codec;
+    }
+
+    /**
+     * Finds the codec of a content type. The content type is only parsed
+     * when it isn't a bare media type, which is how the codecs publish.
+     *
+     * @param contentType The content type.
+     * @return The codec, or null if there is none.
+     */
+    private DomainEventCodec find(String contentType) {
+        DomainEventCodec codec = codecs.get(contentType);
+
+        if (null != codec) {
+            return codec;
+        }
+
+        try {
+            return codecs.get(mediaType(contentType));
+        } catch (InvalidMimeTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the media type of a content type, without its parameters.
+     *
+     * @param contentType The content type, e.g. application/cbor; charset=UTF-8.
+     * @return The media type, e.g. application/cbor.
+     * @throws InvalidMimeTypeException If the content type is not valid.
+     */
+    private static String mediaType(String contentType) {
+        MimeType mimeType = MimeType.valueOf(contentType);
+
+        return mimeType.getType() + "/" + mimeType.getSubtype();
+    }
+}
@@ -0,0 +1,161 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TypedDomainEvent;
+
+/**
+ * This class is responsible for creating domain events from their
+ * primitives. When it is created, it binds the fromPrimitives method of
+ * every domain event indexed by DomainEventsInformation to an instance of
+ * the event, so creating an event doesn't need reflection lookups nor
+ * throwaway instances. For the typed domain events, it also binds their
+ * fromAttributes method, with the codec of their attributes record.
+ *
+ * @see DomainEventsInformation
+ */
+@Service
+public final class DomainEventFactories {
+    private final Map<String, MethodHandle> factories;
+    private final Map<String, MethodHandle> typedFactories;
+    private final Map<String, RecordAttributesCodec> attributesCodecs;
+
+    public DomainEventFactories(DomainEventsInformation information)
+            throws NoSuchMethodException, IllegalAccessException, InstantiationException, InvocationTargetException {
+        MethodHandle fromPrimitives = MethodHandles.publicLookup().findVirtual(
+                DomainEvent.class,
+                "fromPrimitives",
+                MethodType.methodType(DomainEvent.class, String.class, HashMap.class, String.class, String.class));
+        MethodHandle fromAttributes = MethodHandles.publicLookup().findVirtual(
+                TypedDomainEvent.class,
+                "fromAttributes",
+                MethodType.methodType(DomainEvent.class, String.class, Record.class, String.class, String.class));
+
+        HashMap<String, MethodHandle> boundFactories = new HashMap<>();
+        HashMap<String, MethodHandle> boundTypedFactories = new HashMap<>();
+        HashMap<String, RecordAttributesCodec> codecs = new HashMap<>();
+
+        for (Map.Entry<String, Class<? extends DomainEvent>> event : information.all().entrySet()) {
+            DomainEvent nullInstance = event.getValue().getConstructor().newInstance();
+
+            boundFactories.put(event.getKey(), fromPrimitives.bindTo(nullInstance));
+
+            Class<?> attributesClass = attributesClass(event.getValue());
+
+            if (null != attributesClass) {
+                boundTypedFactories.put(event.getKey(), fromAttributes.bindTo(nullInstance));
+                codecs.put(event.getKey(), RecordAttributesCodec.of(attributesClass));
+            }
+        }
+
+        this.factories = Map.copyOf(boundFactories);
+        this.typedFactories = Map.copyOf(boundTypedFactories);
+        this.attributesCodecs = Map.copyOf(codecs);
+    }
+
+    /**
+     * Returns the codec of the attributes of a typed domain event.
+     * 
+     * @param eventName Event name.
+     * @return The codec, or null if the event is not typed.
+     */
+    public RecordAttributesCodec attributesCodec(String eventName) {
+        return attributesCodecs.get(eventName);
+    }
+
+    /**
+     * Creates a domain event from its primitives.
+     * 
+     * @param eventName   Event name.
+     * @param aggregateId Aggregate ID.
+     * @param body        Event body.
+     * @param eventId     Event ID.
+     * @param occurredOn  Event occurred on.
+     * @return The domain event.
+     * @throws IllegalArgumentException If there is no domain event with that name.
+     */
+    public DomainEvent create(
+            String eventName,
+            String aggregateId,
+            HashMap<String, Serializable> body,
+            String eventId,
+            String occurredOn) {
+        MethodHandle factory = factories.get(eventName);
+
+        if (null == factory) {
+            throw new IllegalArgumentException(
+                    String.format("The domain event <%s> is not registered", eventName));
+        }
+
+        try {
+            return (DomainEvent) factory.invokeExact(aggregateId, body, eventId, occurredOn);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates a typed domain event from its attributes.
+     * 
+     * @param eventName   Event name.
+     * @param aggregateId Aggregate ID.
+     * @param attributes  Event attributes.
+     * @param eventId     Event ID.
+     * @param occurredOn  Event occurred on.
+     * @return The domain event.
+     * @throws IllegalArgumentException If there is no typed domain event with that name.
+     */
+    public DomainEvent create(
+            String eventName,
+            String aggregateId,
+            Record attributes,
+            String eventId,
+            String occurredOn) {
+        MethodHandle factory = typedFactories.get(eventName);
+
+        if (null == factory) {
+            throw new IllegalArgumentException(
+                    String.format("The typed domain event <%s> is not registered", eventName));
+        }
+
+        try {
+            return (DomainEvent) factory.invokeExact(aggregateId, attributes, eventId, occurredOn);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the attributes record declared by a typed domain event.
+     * 
+     * @param eventClass The domain event class.
+     * @return The attributes record, or null if the event is not typed.
+     */
+    private static Class<?> attributesClass(Class<?> eventClass) {
+        for (Class<?> type = eventClass; null != type; type = type.getSuperclass()) {
+            for (Type eventInterface : type.getGenericInterfaces()) {
+                if (eventInterface instanceof ParameterizedType parameterized
+                        && parameterized.getRawType() == TypedDomainEvent.class
+                        && parameterized.getActualTypeArguments()[0] instanceof Class<?> attributesClass) {
+                    return attributesClass;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,61 +1,123 @@
 package dev.jean.shared.infrastructure.bus.event;
 
+import dev.jean.shared.domain.JsonCodec;
 import dev.jean.shared.domain.Service;
-import dev.jean.shared.domain.Utils;
 import dev.jean.shared.domain.bus.event.DomainEvent;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
 /**
  * This class is responsible for deserializing domain events from JSON.
- * It uses the DomainEventsInformation class to get the class of the domain
- * event from the event name.
+ * It uses the DomainEventFactories class to create the domain event from
+ * the event name. The envelope is read with a streaming parser, and the
+ * attributes of the typed domain events are read straight into their record
+ * when the event type comes before them, as it is written by
+ * DomainEventJsonSerializer. Otherwise, the attributes are read as
+ * primitives.
  */
 @Service
 public class DomainEventJsonDeserializer {
-    private final DomainEventsInformation information;
+    private static final TypeReference<HashMap<String, Serializable>> PRIMITIVES = new TypeReference<>() {
+    };
+    private final DomainEventFactories factories;
 
-    public DomainEventJsonDeserializer(DomainEventsInformation information) {
-        this.information = information;
+    public DomainEventJsonDeserializer(DomainEventFactories factories) {
+        this.factories = factories;
     }
 
     /**
      * Deserializes a domain event from a JSON string.
-     * 
+     *
      * @param body The JSON string to deserialize.
      * @return The domain event.
-     * @throws InvocationTargetException
-     * @throws IllegalAccessException
-     * @throws NoSuchMethodException
-     * @throws InstantiationException
      */
-    @SuppressWarnings("unchecked")
-    public DomainEvent deserialize(String body)
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, InstantiationException {
-        HashMap<String, Serializable> eventData = Utils.jsonDecode(body);
-        HashMap<String, Serializable> data = (HashMap<String, Serializable>) eventData.get("data");
-        HashMap<String, Serializable> attributes = (HashMap<String, Serializable>) data.get("attributes");
-        Class<? extends DomainEvent> domainEventClass = information.forName((String) data.get("type"));
-
-        DomainEvent nullInstance = domainEventClass.getConstructor().newInstance();
-
-        Method fromPrimitivesMethod = domainEventClass.getMethod(
-                "fromPrimitives",
-                String.class,
-                HashMap.class,
-                String.class,
-                String.class);
-
-        Object domainEvent = fromPrimitivesMethod.invoke(
-                nullInstance,
-                (String) attributes.get("id"),
-                attributes,
-                (String) data.get("id"),
-                (String) data.get("occurred_on"));
-
-        return (DomainEvent) domainEvent;
+    public DomainEvent deserialize(String body) {
+        try (JsonParser parser = JsonCodec.createParser(body)) {
+            return this.deserialize(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes a domain event from UTF-8 JSON bytes, without decoding
+     * them to a string first.
+     *
+     * @param body The UTF-8 JSON bytes to deserialize.
+     * @return The domain event.
+     */
+    public DomainEvent deserialize(byte[] body) {
+        try (JsonParser parser = JsonCodec.createParser(body)) {
+            return this.deserialize(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deserializes a domain event through a parser, which can read JSON or
+     * any other format supported by Jackson.
+     *
+     * @param parser The parser to read with.
+     * @return The domain event.
+     * @throws IOException
+     */
+    public DomainEvent deserialize(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("The domain event is not an object");
+        }
+
+        String eventId = null;
+        String eventName = null;
+        String occurredOn = null;
+        String aggregateId = null;
+        HashMap<String, Serializable> primitives = null;
+        Record attributes = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+
+            if (parser.nextToken() != JsonToken.START_OBJECT || !"data".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String dataField = parser.currentName();
+                parser.nextToken();
+
+                switch (dataField) {
+                    case "id" -> eventId = parser.getValueAsString();
+                    case "type" -> eventName = parser.getValueAsString();
+                    case "occurred_on" -> occurredOn = parser.getValueAsString();
+                    case "attributes" -> {
+                        RecordAttributesCodec codec = null == eventName ? null : factories.attributesCodec(eventName);
+
+                        if (null != codec) {
+                            RecordAttributesCodec.Attributes read = codec.read(parser);
+                            aggregateId = read.aggregateId();
+                            attributes = read.attributes();
+                        } else {
+                            primitives = parser.readValueAs(PRIMITIVES);
+                            aggregateId = (String) primitives.get("id");
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (null != attributes) {
+            return factories.create(eventName, aggregateId, attributes, eventId, occurredOn);
+        }
+
+        return factories.create(eventName, aggregateId, primitives, eventId, occurredOn);
     }
 }
@@ -1,14 +1,23 @@
 package dev.jean.shared.infrastructure.bus.event;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
-import dev.jean.shared.domain.Utils;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import dev.jean.shared.domain.JsonCodec;
 import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TypedDomainEvent;
 
 /**
  * This class is responsible for serializing domain events to JSON.
- * It takes a DomainEvent and converts it to a JSON string.
+ * It takes a DomainEvent and streams it as JSON, wrapping its primitives
+ * in the data/attributes/meta envelope. The attributes of the typed domain
+ * events are written straight from their record.
+ *
+ * @see TypedDomainEvent
  */
 public final class DomainEventJsonSerializer {
 
@@ -19,21 +28,64 @@ public final class DomainEventJsonSerializer {
      * @return The JSON string representation of the domain event.
      */
     public static String serialize(DomainEvent domainEvent) {
+        return new String(serializeToBytes(domainEvent), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serializes a domain event to UTF-8 JSON bytes.
+     * 
+     * @param domainEvent The domain event to serialize.
+     * @return The UTF-8 JSON representation of the domain event.
+     */
+    public static byte[] serializeToBytes(DomainEvent domainEvent) {
+        return JsonCodec.encodeToBytes(generator -> write(domainEvent, generator));
+    }
+
+    /**
+     * Writes the envelope of a domain event through a generator, which can
+     * produce JSON or any other format supported by Jackson.
+     * 
+     * @param domainEvent The domain event to serialize.
+     * @param generator   The generator to write with.
+     * @throws IOException
+     */
+    public static void write(DomainEvent domainEvent, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeObjectFieldStart("data");
+        generator.writeStringField("id", domainEvent.eventId());
+        generator.writeStringField("type", domainEvent.eventName());
+        generator.writeStringField("occurred_on", domainEvent.occurredOn());
+        generator.writeFieldName("attributes");
+        writeAttributes(domainEvent, generator);
+        generator.writeEndObject();
+
+        generator.writeObjectFieldStart("meta");
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the attributes of a domain event, from its record if it is a
+     * typed domain event, or from its primitives otherwise.
+     * 
+     * @param domainEvent The domain event to serialize.
+     * @param generator   The generator to write with.
+     * @throws IOException
+     */
+    private static void writeAttributes(DomainEvent domainEvent, JsonGenerator generator) throws IOException {
+        if (domainEvent instanceof TypedDomainEvent<?> typedDomainEvent) {
+            Record attributes = typedDomainEvent.attributes();
+
+            RecordAttributesCodec.of(attributes.getClass()).write(domainEvent.aggregateId(), attributes, generator);
+
+            return;
+        }
+
         HashMap<String, Serializable> attributes = domainEvent.toPrimitives();
         attributes.put("id", domainEvent.aggregateId());
 
-        return Utils.jsonEncode(new HashMap<String, Serializable>() {
-            {
-                put("data", new HashMap<String, Serializable>() {
-                    {
-                        put("id", domainEvent.eventId());
-                        put("type", domainEvent.eventName());
-                        put("occurred_on", domainEvent.occurredOn());
-                        put("attributes", attributes);
-                    }
-                });
-                put("meta", new HashMap<String, Serializable>());
-            }
-        });
+        generator.writeObject(attributes);
     }
 }
@@ -10,15 +10,41 @@ import dev.jean.shared.domain.bus.event.DomainEvent;
  * It contains the subscriber class and the list of events it subscribes to.
  * This information is used to create a RabbitMQ queue for the subscriber.
  * The queue name is formatted as "jean.{context}.{module}.{class}".
+ * It also contains how the queue is consumed: the concurrent consumers, the
+ * prefetch count, the batch size, whether the events are handled on
+ * virtual threads and how many times failed events are retried.
  */
 public final class DomainEventSubscriberInformation {
     private final Class<?> subscriberClass;
     private final List<Class<? extends DomainEvent>> subscribedEvents;
+    private final String concurrency;
+    private final Integer prefetch;
+    private final Integer batchSize;
+    private final Boolean virtualThreads;
+    private final Integer maxInFlight;
+    private final Integer maxRetries;
 
     public DomainEventSubscriberInformation(Class<?> subscriberClass,
-            List<Class<? extends DomainEvent>> subscribedEvents) {
+            List<Class<? extends DomainEvent>> subscribedEvents,
+            String concurrency,
+            Integer prefetch,
+            Integer batchSize,
+            Boolean virtualThreads,
+            Integer maxInFlight,
+            Integer maxRetries) {
         this.subscriberClass = subscriberClass;
         this.subscribedEvents = subscribedEvents;
+        this.concurrency = concurrency;
+        this.prefetch = prefetch;
+        this.batchSize = batchSize;
+        this.virtualThreads = virtualThreads;
+        this.maxInFlight = maxInFlight;
+        this.maxRetries = maxRetries;
+    }
+
+    public DomainEventSubscriberInformation(Class<?> subscriberClass,
+            List<Class<? extends DomainEvent>> subscribedEvents) {
+        this(subscriberClass, subscribedEvents, "1", 250, 1, false, 256, -1);
     }
 
     /**
@@ -39,6 +65,62 @@ public final class DomainEventSubscriberInformation {
         return subscribedEvents;
     }
 
+    /**
+     * Returns the concurrent consumers, as a number or as a "min-max" range.
+     * 
+     * @return Concurrent consumers.
+     */
+    public String concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Returns the prefetch count of every consumer.
+     * 
+     * @return Prefetch count.
+     */
+    public Integer prefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Returns the maximum number of events delivered at once.
+     * 
+     * @return Batch size.
+     */
+    public Integer batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns whether the events are handled on virtual threads.
+     * 
+     * @return True if the events are handled on virtual threads.
+     */
+    public Boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Returns the maximum number of events handled at the same time on
+     * virtual threads.
+     * 
+     * @return Maximum events in flight.
+     */
+    public Integer maxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Returns the times a failed event is retried, or a negative number to
+     * retry it once per retry tier.
+     * 
+     * @return Maximum retries.
+     */
+    public Integer maxRetries() {
+        return maxRetries;
+    }
+
     /**
      * Returns the context name.
      * 
@@ -2,17 +2,20 @@ package dev.jean.shared.infrastructure.bus.event;
 
 import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.event.DomainEventSubscriber;
+import dev.jean.shared.infrastructure.ClassIndex;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.reflections.Reflections;
 
 /**
- * This class is responsible for scanning the project and finding all the
- * classes annotated with the DomainEventSubscriber annotation. It will then
+ * This class is responsible for finding all the classes annotated with the
+ * DomainEventSubscriber annotation, from the class index generated at compile
+ * time or, when there is no index, scanning the project. It will then
  * store the information in a HashMap, where the key is the class and the value
  * is a DomainEventSubscriberInformation object.
  */
@@ -26,7 +29,9 @@ public final class DomainEventSubscribersInformation {
     }
 
     public DomainEventSubscribersInformation() {
-        this(scanDomainEventSubscribers());
+        this(ClassIndex.load()
+                .map(DomainEventSubscribersInformation::indexedDomainEventSubscribers)
+                .orElseGet(DomainEventSubscribersInformation::scanDomainEventSubscribers));
     }
 
     /**
@@ -39,8 +44,32 @@ public final class DomainEventSubscribersInformation {
      */
     private static HashMap<Class<?>, DomainEventSubscriberInformation> scanDomainEventSubscribers() {
         Reflections reflections = new Reflections("dev.jean");
-        Set<Class<?>> subscribers = reflections.getTypesAnnotatedWith(DomainEventSubscriber.class);
 
+        return formatDomainEventSubscribers(reflections.getTypesAnnotatedWith(DomainEventSubscriber.class));
+    }
+
+    /**
+     * This method reads the subscribers listed in the class index generated at
+     * compile time.
+     * 
+     * @param index The class index.
+     * @return The HashMap containing the information.
+     */
+    private static HashMap<Class<?>, DomainEventSubscriberInformation> indexedDomainEventSubscribers(
+            ClassIndex index) {
+        return formatDomainEventSubscribers(
+                index.domainEventSubscribers().stream().map(ClassIndex::forName).collect(Collectors.toSet()));
+    }
+
+    /**
+     * This method reads the DomainEventSubscriber annotation of every
+     * subscriber.
+     * 
+     * @param subscribers The subscriber classes.
+     * @return The HashMap containing the information.
+     */
+    private static HashMap<Class<?>, DomainEventSubscriberInformation> formatDomainEventSubscribers(
+            Set<Class<?>> subscribers) {
         HashMap<Class<?>, DomainEventSubscriberInformation> subscribersInformation = new HashMap<>();
 
         for (Class<?> subscriberClass : subscribers) {
@@ -48,7 +77,15 @@ public final class DomainEventSubscribersInformation {
 
             subscribersInformation.put(
                     subscriberClass,
-                    new DomainEventSubscriberInformation(subscriberClass, Arrays.asList(annotation.value())));
+                    new DomainEventSubscriberInformation(
+                            subscriberClass,
+                            Arrays.asList(annotation.value()),
+                            annotation.concurrency(),
+                            annotation.prefetch(),
+                            annotation.batchSize(),
+                            annotation.virtualThreads(),
+                            annotation.maxInFlight(),
+                            annotation.maxRetries()));
         }
 
         return subscribersInformation;
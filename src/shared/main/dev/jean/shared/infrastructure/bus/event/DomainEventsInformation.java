@@ -2,19 +2,24 @@ package dev.jean.shared.infrastructure.bus.event;
 
 import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.infrastructure.ClassIndex;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Set;
 import java.util.Objects;
 import java.util.Map;
+import java.util.Optional;
 
 import org.reflections.Reflections;
 
 /**
  * This class is responsible for indexing all domain events in the application.
- * It uses Reflections to scan the application for all classes that extend
- * DomainEvent. It then creates a map of the event name to the class.
+ * It reads the domain events from the class index generated at compile time,
+ * or, when there is no index, uses Reflections to scan the application for
+ * all classes that extend DomainEvent. It then creates a map of the event
+ * name to the class. Only the events whose name is not known at compile time
+ * are instantiated to get it.
  * This map is used by the DomainEventJsonDeserializer to deserialize the
  * events.
  */
@@ -23,11 +28,12 @@ public final class DomainEventsInformation {
     HashMap<String, Class<? extends DomainEvent>> indexedDomainEvents;
 
     public DomainEventsInformation() {
-        Reflections reflections = new Reflections("dev.jean");
-        Set<Class<? extends DomainEvent>> classes = reflections.getSubTypesOf(DomainEvent.class);
-
         try {
-            indexedDomainEvents = this.formatEvents(classes);
+            Optional<ClassIndex> index = ClassIndex.load();
+
+            indexedDomainEvents = index.isPresent()
+                    ? this.fromIndex(index.get())
+                    : this.formatEvents(new Reflections("dev.jean").getSubTypesOf(DomainEvent.class));
         } catch (NoSuchMethodException | IllegalAccessException | InstantiationException
                 | InvocationTargetException e) {
             e.printStackTrace();
@@ -44,6 +50,15 @@ public final class DomainEventsInformation {
         return indexedDomainEvents.get(name);
     }
 
+    /**
+     * Returns every domain event class indexed by its name.
+     * 
+     * @return The domain event classes by name.
+     */
+    public Map<String, Class<? extends DomainEvent>> all() {
+        return indexedDomainEvents;
+    }
+
     /**
      * Returns the name of the domain event class.
      * 
@@ -57,6 +72,31 @@ public final class DomainEventsInformation {
                 .findFirst().orElse("");
     }
 
+    /**
+     * Formats the domain events listed in the class index into a map of event
+     * name to class.
+     * 
+     * @param index The class index.
+     * @return The map of event name to class.
+     * @throws NoSuchMethodException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     * @throws InvocationTargetException
+     */
+    @SuppressWarnings("unchecked")
+    private HashMap<String, Class<? extends DomainEvent>> fromIndex(ClassIndex index)
+            throws NoSuchMethodException, IllegalAccessException, InstantiationException, InvocationTargetException {
+        HashMap<String, Class<? extends DomainEvent>> events = new HashMap<>();
+
+        for (Map.Entry<String, String> event : index.domainEvents()) {
+            Class<? extends DomainEvent> domainEvent = (Class<? extends DomainEvent>) ClassIndex.forName(event.getValue());
+
+            events.put(event.getKey().isEmpty() ? this.eventName(domainEvent) : event.getKey(), domainEvent);
+        }
+
+        return events;
+    }
+
     /**
      * Formats the domain events into a map of event name to class.
      * 
@@ -73,9 +113,25 @@ public final class DomainEventsInformation {
         HashMap<String, Class<? extends DomainEvent>> events = new HashMap<>();
 
         for (Class<? extends DomainEvent> domainEvent : domainEvents) {
-            DomainEvent nullInstance = domainEvent.getConstructor().newInstance();
-            events.put((String) domainEvent.getMethod("eventName").invoke(nullInstance), domainEvent);
+            events.put(this.eventName(domainEvent), domainEvent);
         }
         return events;
     }
+
+    /**
+     * Returns the name of a domain event class from an instance of it.
+     * 
+     * @param domainEvent The class of the domain event.
+     * @return The name of the domain event.
+     * @throws NoSuchMethodException
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     * @throws InvocationTargetException
+     */
+    private String eventName(Class<? extends DomainEvent> domainEvent)
+            throws NoSuchMethodException, IllegalAccessException, InstantiationException, InvocationTargetException {
+        DomainEvent nullInstance = domainEvent.getConstructor().newInstance();
+
+        return (String) domainEvent.getMethod("eventName").invoke(nullInstance);
+    }
 }
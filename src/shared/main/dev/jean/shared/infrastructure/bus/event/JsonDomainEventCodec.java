@@ -0,0 +1,40 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * This class encodes domain events as UTF-8 JSON. It is the default codec.
+ *
+ * @see DomainEventJsonSerializer
+ * @see DomainEventJsonDeserializer
+ */
+@Service
+public final class JsonDomainEventCodec implements DomainEventCodec {
+    public static final String CONTENT_TYPE = "application/json";
+    private final DomainEventJsonDeserializer deserializer;
+
+    public JsonDomainEventCodec(DomainEventJsonDeserializer deserializer) {
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public String contentEncoding() {
+        return "utf-8";
+    }
+
+    @Override
+    public byte[] encode(DomainEvent domainEvent) {
+        return DomainEventJsonSerializer.serializeToBytes(domainEvent);
+    }
+
+    @Override
+    public DomainEvent decode(byte[] body) {
+        return deserializer.deserialize(body);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.util.List;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.EventBus;
+import dev.jean.shared.infrastructure.bus.query.QueryResponseCache;
+
+/**
+ * This class is responsible for invalidating the cached query responses of
+ * the aggregates whose events are published. The events are published by the
+ * decorated event bus first, and the responses are invalidated even if it
+ * fails, as some of the events may have been published.
+ *
+ * @see QueryResponseCache
+ */
+public final class QueryCacheInvalidatingEventBus implements EventBus {
+    private final EventBus bus;
+    private final QueryResponseCache cache;
+
+    public QueryCacheInvalidatingEventBus(EventBus bus, QueryResponseCache cache) {
+        this.bus = bus;
+        this.cache = cache;
+    }
+
+    /**
+     * Publishes the events and invalidates the cached responses of their
+     * aggregates.
+     * 
+     * @param events The events to publish.
+     */
+    @Override
+    public void publish(List<DomainEvent> events) {
+        try {
+            bus.publish(events);
+        } finally {
+            events.forEach(event -> cache.invalidate(event.aggregateId()));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import dev.jean.shared.domain.bus.event.TypedDomainEvent;
+
+/**
+ * This class is responsible for writing and reading the attributes of a
+ * typed domain event straight from and to its record, field by field, with
+ * the aggregate ID as the `id` attribute. The accessors and the canonical
+ * constructor of the record are resolved once per record class.
+ *
+ * @see TypedDomainEvent
+ */
+public final class RecordAttributesCodec {
+    private static final ClassValue<RecordAttributesCodec> CODECS = new ClassValue<>() {
+        @Override
+        protected RecordAttributesCodec computeValue(Class<?> recordClass) {
+            return new RecordAttributesCodec(recordClass);
+        }
+    };
+    private final String[] names;
+    private final Class<?>[] types;
+    private final MethodHandle[] accessors;
+    private final MethodHandle constructor;
+    private final Map<String, Integer> indexes;
+
+    private RecordAttributesCodec(Class<?> recordClass) {
+        if (!recordClass.isRecord()) {
+            throw new IllegalArgumentException(
+                    String.format("The attributes <%s> are not a record", recordClass.getName()));
+        }
+
+        RecordComponent[] components = recordClass.getRecordComponents();
+        HashMap<String, Integer> componentIndexes = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+        this.names = new String[components.length];
+        this.types = new Class<?>[components.length];
+        this.accessors = new MethodHandle[components.length];
+
+        try {
+            for (int i = 0; i < components.length; i++) {
+                if ("id".equals(components[i].getName())) {
+                    throw new IllegalArgumentException(String.format(
+                            "The attributes <%s> can't have an id, it is the aggregate ID", recordClass.getName()));
+                }
+
+                this.names[i] = components[i].getName();
+                this.types[i] = components[i].getType();
+                this.accessors[i] = lookup.unreflect(components[i].getAccessor())
+                        .asType(MethodType.methodType(Object.class, Record.class));
+                componentIndexes.put(this.names[i], i);
+            }
+
+            this.constructor = lookup.findConstructor(recordClass, MethodType.methodType(void.class, this.types))
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Record.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    String.format("The attributes <%s> must be a public record", recordClass.getName()), e);
+        }
+
+        this.indexes = Map.copyOf(componentIndexes);
+    }
+
+    /**
+     * Returns the codec of a record class.
+     *
+     * @param recordClass The record class.
+     * @return The codec.
+     * @throws IllegalArgumentException If the class is not a public record.
+     */
+    public static RecordAttributesCodec of(Class<?> recordClass) {
+        return CODECS.get(recordClass);
+    }
+
+    /**
+     * Writes the attributes object of an event.
+     *
+     * @param aggregateId The aggregate ID.
+     * @param attributes  The event attributes.
+     * @param generator   The generator to write with.
+     * @throws IOException
+     */
+    public void write(String aggregateId, Record attributes, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", aggregateId);
+
+        for (int i = 0; i < this.names.length; i++) {
+            generator.writeFieldName(this.names[i]);
+            this.writeValue(this.component(i, attributes), generator);
+        }
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the attributes object of an event. The parser must be on the
+     * start of the object, and it is left on its end. Unknown attributes are
+     * skipped, and missing ones are left empty.
+     *
+     * @param parser The parser to read with.
+     * @return The aggregate ID and the event attributes.
+     * @throws IOException
+     */
+    public Attributes read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("The event attributes are not an object");
+        }
+
+        Object[] values = new Object[this.names.length];
+        String aggregateId = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+
+            if ("id".equals(name)) {
+                aggregateId = parser.getValueAsString();
+                continue;
+            }
+
+            Integer index = this.indexes.get(name);
+
+            if (null == index) {
+                parser.skipChildren();
+                continue;
+            }
+
+            values[index] = this.readValue(this.types[index], parser);
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (null == values[i] && this.types[i].isPrimitive()) {
+                values[i] = defaultValue(this.types[i]);
+            }
+        }
+
+        return new Attributes(aggregateId, this.construct(values));
+    }
+
+    /**
+     * Returns a component of the record.
+     *
+     * @param index      The component index.
+     * @param attributes The record.
+     * @return The component value.
+     */
+    private Object component(int index, Record attributes) {
+        try {
+            return (Object) this.accessors[index].invokeExact(attributes);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates the record from its components.
+     *
+     * @param values The component values, in order.
+     * @return The record.
+     */
+    private Record construct(Object[] values) {
+        try {
+            return (Record) this.constructor.invokeExact(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes a value, without going through the mapper for the scalar types.
+     *
+     * @param value     The value.
+     * @param generator The generator to write with.
+     * @throws IOException
+     */
+    private void writeValue(Object value, JsonGenerator generator) throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case String string -> generator.writeString(string);
+            case Integer number -> generator.writeNumber(number);
+            case Long number -> generator.writeNumber(number);
+            case Double number -> generator.writeNumber(number);
+            case Float number -> generator.writeNumber(number);
+            case Boolean bool -> generator.writeBoolean(bool);
+            default -> generator.writeObject(value);
+        }
+    }
+
+    /**
+     * Reads a value of a component type, without going through the mapper
+     * for the scalar types.
+     *
+     * @param type   The component type.
+     * @param parser The parser, on the value.
+     * @return The value.
+     * @throws IOException
+     */
+    private Object readValue(Class<?> type, JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        if (type == String.class) {
+            return parser.getValueAsString();
+        }
+
+        if (type == Integer.class || type == int.class) {
+            return parser.getIntValue();
+        }
+
+        if (type == Long.class || type == long.class) {
+            return parser.getLongValue();
+        }
+
+        if (type == Double.class || type == double.class) {
+            return parser.getDoubleValue();
+        }
+
+        if (type == Float.class || type == float.class) {
+            return parser.getFloatValue();
+        }
+
+        if (type == Boolean.class || type == boolean.class) {
+            return parser.getBooleanValue();
+        }
+
+        return parser.readValueAs(type);
+    }
+
+    /**
+     * Returns the default value of a primitive type.
+     *
+     * @param type The primitive type.
+     * @return The default value.
+     */
+    private static Object defaultValue(Class<?> type) {
+        return Array.get(Array.newInstance(type, 1), 0);
+    }
+
+    /**
+     * The attributes read from an event, with its aggregate ID.
+     */
+    public record Attributes(String aggregateId, Record attributes) {
+    }
+}
@@ -0,0 +1,76 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This interface represents the outbox where the events are stored before
+ * they are relayed to the event bus.
+ *
+ * @see MysqlDomainEventsOutbox
+ * @see MysqlDomainEventsConsumer
+ */
+public interface DomainEventsOutbox {
+    /**
+     * Runs some work in a transaction, which is committed when the work
+     * returns, and rolled back when it throws.
+     *
+     * @param <T>  The type of the result.
+     * @param work The work to run.
+     * @return The result of the work.
+     */
+    <T> T inTransaction(Function<OutboxTransaction, T> work);
+
+    /**
+     * This interface represents the operations of the outbox in a
+     * transaction. It is used by one thread only.
+     */
+    interface OutboxTransaction {
+        /**
+         * Reads the next events after a cursor on seq.
+         *
+         * @param seq   The seq of the cursor.
+         * @param chunk The maximum number of events.
+         * @return The events, sorted by seq.
+         */
+        List<OutboxEvent> next(long seq, int chunk);
+
+        /**
+         * Claims the first events not claimed by other transactions. They
+         * stay claimed until the transaction ends.
+         *
+         * @param chunk The maximum number of events.
+         * @return The events, sorted by seq.
+         */
+        List<OutboxEvent> claim(int chunk);
+
+        /**
+         * Returns the aggregates that have events older than the given ones,
+         * which are the earliest claimed event of each aggregate. These older
+         * events are being relayed by another transaction, or failed.
+         *
+         * @param earliestEvents The earliest event of every aggregate.
+         * @return The IDs of the aggregates with older events.
+         */
+        Set<String> aggregatesWithOlderEvents(Collection<OutboxEvent> earliestEvents);
+
+        /**
+         * Deletes the relayed events.
+         *
+         * @param ids The event IDs.
+         */
+        void delete(List<String> ids);
+
+        /**
+         * Moves an event that can't be relayed out of the outbox, to the
+         * dead letter table.
+         *
+         * @param event    The event.
+         * @param failures The number of times it failed.
+         * @param error    The last error.
+         */
+        void deadLetter(OutboxEvent event, int failures, String error);
+    }
+}
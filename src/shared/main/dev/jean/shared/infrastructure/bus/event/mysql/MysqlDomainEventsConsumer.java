@@ -1,73 +1,139 @@
 package dev.jean.shared.infrastructure.bus.event.mysql;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.sql.Timestamp;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hibernate.SessionFactory;
-import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Qualifier;
-import jakarta.transaction.Transactional;
 
+import dev.jean.shared.domain.Logger;
 import dev.jean.shared.domain.Utils;
 import dev.jean.shared.domain.bus.event.DomainEvent;
 import dev.jean.shared.domain.bus.event.EventBus;
-import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventFactories;
+import dev.jean.shared.infrastructure.bus.event.mysql.DomainEventsOutbox.OutboxTransaction;
 
 /**
- * This class is responsible for consuming events from the database.
- * It uses Hibernate to interact with the database.
- * 
+ * This class is responsible for relaying the events stored in the outbox to
+ * the event bus.
+ *
+ * Events are read in chunks after a cursor on seq, the AUTO_INCREMENT column
+ * that numbers them in insertion order, so every query is an index seek on
+ * it, and they are deleted once they have been published. The seq is taken
+ * on insert but the transactions commit in any order, so an event committed
+ * later could have a seq before the cursor: the cursor goes back to the
+ * start every time the consumer catches up, which only reads the events not
+ * deleted yet.
+ * When there are no events to relay, or a chunk stops on a failure, the
+ * consumer waits before looking again, doubling the wait up to a maximum.
+ *
+ * The failures of every event are counted. An event that fails
+ * MAX_FAILURES times, e.g. because its body is not valid or its name is
+ * unknown, is moved to the dead letter table, so it doesn't stop the relay.
+ *
+ * When it is created with a number of workers, the consumer claims the
+ * events instead, with SELECT ... FOR UPDATE SKIP LOCKED, so several
+ * consumers, in the same or different nodes, share the table without
+ * relaying the same events. The claimed chunk is relayed by the workers in
+ * parallel, keeping the events of the same aggregate in order within the
+ * chunk, and the row locks are held until the relayed events are deleted.
+ * The aggregates with an older event out of the chunk, claimed by another
+ * consumer or waiting after a failure, are left for a later chunk, so the
+ * events of an aggregate are published in order across consumers too.
+ *
  * @see EventBus
+ * @see DomainEventsOutbox
  */
 public class MysqlDomainEventsConsumer {
-    private final SessionFactory sessionFactory;
-    private final DomainEventsInformation domainEventsInformation;
+    private final DomainEventsOutbox outbox;
+    private final DomainEventFactories domainEventFactories;
     private final EventBus bus;
+    private final Logger logger;
     private final Integer CHUNKS = 200;
-    private Boolean shouldStop = false;
+    private final Integer MAX_FAILURES = 10;
+    private final Long MIN_IDLE_MILLIS = 10L;
+    private final Long MAX_IDLE_MILLIS = 1000L;
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<String, Integer> failures = new ConcurrentHashMap<>();
+    private volatile Boolean shouldStop = false;
+    private Long lastSeq;
 
     public MysqlDomainEventsConsumer(
             @Qualifier("session_factory") SessionFactory sessionFactory,
-            DomainEventsInformation domainEventsInformation,
-            EventBus bus) {
-        this.sessionFactory = sessionFactory;
-        this.domainEventsInformation = domainEventsInformation;
+            DomainEventFactories domainEventFactories,
+            EventBus bus,
+            Logger logger) {
+        this(new MysqlDomainEventsOutbox(sessionFactory), domainEventFactories, bus, logger, null);
+    }
+
+    public MysqlDomainEventsConsumer(
+            @Qualifier("session_factory") SessionFactory sessionFactory,
+            DomainEventFactories domainEventFactories,
+            EventBus bus,
+            Logger logger,
+            Integer workers) {
+        this(new MysqlDomainEventsOutbox(sessionFactory), domainEventFactories, bus, logger, workers);
+    }
+
+    /**
+     * @param outbox               The outbox to relay.
+     * @param domainEventFactories The factories of the domain events.
+     * @param bus                  The event bus to relay to.
+     * @param logger               The logger.
+     * @param workers              The number of workers that claim the events,
+     *                             or null to read them after the cursor.
+     */
+    public MysqlDomainEventsConsumer(
+            DomainEventsOutbox outbox,
+            DomainEventFactories domainEventFactories,
+            EventBus bus,
+            Logger logger,
+            Integer workers) {
+        this.outbox = outbox;
+        this.domainEventFactories = domainEventFactories;
         this.bus = bus;
+        this.logger = logger;
+        this.workers = null == workers ? null : Executors.newFixedThreadPool(workers);
+        this.resetCursor();
     }
 
     /**
      * Consumes events from the database. It will consume events
      * until the stop method is called.
      */
-    @Transactional
     public void consume() {
+        long idleMillis = this.MIN_IDLE_MILLIS;
+
         while (!shouldStop) {
-            NativeQuery<Object[]> query = sessionFactory.getCurrentSession().createNativeQuery(
-                    "SELECT * FROM domain_events ORDER BY occurred_on ASC LIMIT :chunk", Object[].class);
+            Relay relay = this.relayChunk();
 
-            query.setParameter("chunk", this.CHUNKS);
+            if (relay.processed() > 0 && !relay.failed()) {
+                idleMillis = this.MIN_IDLE_MILLIS;
+                continue;
+            }
 
-            List<Object[]> events = query.list();
+            if (relay.processed() == 0) {
+                this.resetCursor();
+            }
 
             try {
-                for (Object[] event : events) {
-                    this.executeSubscribers(
-                            (String) event[0],
-                            (String) event[1],
-                            (String) event[2],
-                            (String) event[3],
-                            (Timestamp) event[4]);
-                }
-            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException
-                    | InstantiationException e) {
-                e.printStackTrace();
+                Thread.sleep(idleMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
 
-            sessionFactory.getCurrentSession().clear();
+            idleMillis = Math.min(idleMillis * 2, this.MAX_IDLE_MILLIS);
         }
     }
 
@@ -76,42 +142,233 @@ public class MysqlDomainEventsConsumer {
      */
     public void stop() {
         this.shouldStop = true;
+
+        if (null != this.workers) {
+            this.workers.shutdown();
+        }
+    }
+
+    /**
+     * Moves the cursor back to the first event.
+     */
+    private void resetCursor() {
+        this.lastSeq = 0L;
+    }
+
+    /**
+     * Relays the next chunk of events, deletes the ones that have been
+     * published, and moves the ones that failed too many times to the dead
+     * letter table. If an event can't be published, the events after it in
+     * the chunk (or of the same aggregate, when claiming) are read again in
+     * the next chunk.
+     *
+     * @return The relay of the chunk.
+     */
+    Relay relayChunk() {
+        try {
+            Relay relay = outbox.inTransaction(transaction -> {
+                Relay chunkRelay = null == this.workers
+                        ? this.relay(transaction.next(this.lastSeq, this.CHUNKS))
+                        : this.relayInParallel(this.claimInOrder(transaction));
+
+                this.apply(chunkRelay, transaction);
+
+                return chunkRelay;
+            });
+
+            if (null == this.workers && null != relay.last()) {
+                this.lastSeq = relay.last().seq();
+            }
+
+            return relay;
+        } catch (RuntimeException e) {
+            HashMap<String, Serializable> context = new HashMap<>();
+            context.put("error", e.toString());
+
+            this.logger.critical("The outbox chunk could not be relayed", context);
+
+            return Relay.failure();
+        }
+    }
+
+    /**
+     * Deletes the published events and dead letters the ones that failed too
+     * many times, in the transaction of the chunk.
+     *
+     * @param relay       The relay of the chunk.
+     * @param transaction The transaction.
+     */
+    private void apply(Relay relay, OutboxTransaction transaction) {
+        relay.deadLettered().forEach(deadLetter -> transaction.deadLetter(
+                deadLetter.event(),
+                deadLetter.failures(),
+                deadLetter.error()));
+
+        if (!relay.published().isEmpty()) {
+            transaction.delete(relay.published().stream().map(OutboxEvent::id).toList());
+        }
+    }
+
+    /**
+     * Claims the next chunk of events, leaving out the aggregates with older
+     * events that are not in the chunk. Those events are claimed by another
+     * consumer, or failed and are waiting to be relayed again, so relaying
+     * the later ones now would publish the events of the aggregate out of
+     * order.
+     *
+     * @param transaction The transaction of the chunk.
+     * @return The claimed events that can be relayed, in order.
+     */
+    private List<OutboxEvent> claimInOrder(OutboxTransaction transaction) {
+        List<OutboxEvent> events = transaction.claim(this.CHUNKS);
+        LinkedHashMap<String, OutboxEvent> earliestEvents = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            earliestEvents.putIfAbsent(event.aggregateId(), event);
+        }
+
+        Set<String> blockedAggregates = transaction.aggregatesWithOlderEvents(earliestEvents.values());
+
+        if (blockedAggregates.isEmpty()) {
+            return events;
+        }
+
+        return events.stream()
+                .filter(event -> !blockedAggregates.contains(event.aggregateId()))
+                .toList();
+    }
+
+    /**
+     * Publishes the events with the workers. The events of every aggregate are
+     * published in order by a single worker, until one of them fails.
+     *
+     * @param events Events claimed from the database.
+     * @return The relay of the events.
+     */
+    private Relay relayInParallel(List<OutboxEvent> events) {
+        LinkedHashMap<String, List<OutboxEvent>> eventsByAggregate = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            eventsByAggregate.computeIfAbsent(event.aggregateId(), aggregateId -> new ArrayList<>()).add(event);
+        }
+
+        List<Future<Relay>> relays = new ArrayList<>(eventsByAggregate.size());
+
+        for (List<OutboxEvent> aggregateEvents : eventsByAggregate.values()) {
+            relays.add(this.workers.submit(() -> this.relay(aggregateEvents)));
+        }
+
+        Relay relay = Relay.empty();
+
+        for (Future<Relay> aggregateRelay : relays) {
+            try {
+                relay = relay.merge(aggregateRelay.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                relay = relay.merge(Relay.failure());
+            } catch (ExecutionException e) {
+                relay = relay.merge(Relay.failure());
+            }
+        }
+
+        return relay;
+    }
+
+    /**
+     * Publishes the events in order, until one of them fails. An event that
+     * has failed MAX_FAILURES times is dead lettered, and the next events are
+     * published.
+     *
+     * @param events Events read from the database.
+     * @return The relay of the events.
+     */
+    private Relay relay(List<OutboxEvent> events) {
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        List<DeadLetter> deadLettered = new ArrayList<>();
+        OutboxEvent last = null;
+        boolean failed = false;
+
+        for (OutboxEvent event : events) {
+            try {
+                this.executeSubscribers(event);
+                this.failures.remove(event.id());
+                published.add(event);
+            } catch (RuntimeException e) {
+                int eventFailures = this.failures.merge(event.id(), 1, Integer::sum);
+                HashMap<String, Serializable> context = new HashMap<>();
+                context.put("event_id", event.id());
+                context.put("event_name", event.name());
+                context.put("failures", eventFailures);
+                context.put("error", e.toString());
+
+                if (eventFailures < this.MAX_FAILURES) {
+                    this.logger.warning("The event could not be relayed", context);
+                    failed = true;
+                    break;
+                }
+
+                this.failures.remove(event.id());
+                this.logger.critical("The event failed too many times, it is moved to the dead letter table", context);
+                deadLettered.add(new DeadLetter(event, eventFailures, e.toString()));
+            }
+
+            last = event;
+        }
+
+        return new Relay(published, deadLettered, last, failed);
     }
 
     /**
      * Executes the subscribers of the event.
-     * 
-     * @param id          Event ID. 
-     * @param aggregateId Aggregate ID. 
-     * @param eventName   Event name.
-     * @param body        Event body.
-     * @param occurredOn  Event occurred on.
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
-     * @throws InstantiationException
+     *
+     * @param event The event read from the database.
      */
-    private void executeSubscribers(
-            String id, String aggregateId, String eventName, String body, Timestamp occurredOn)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        Class<? extends DomainEvent> domainEventClass = domainEventsInformation.forName(eventName);
-
-        DomainEvent nullInstance = domainEventClass.getConstructor().newInstance();
-
-        Method fromPrimitivesMethod = domainEventClass.getMethod(
-                "fromPrimitives",
-                String.class,
-                HashMap.class,
-                String.class,
-                String.class);
-
-        Object domainEvent = fromPrimitivesMethod.invoke(
-                nullInstance,
-                aggregateId,
-                Utils.jsonDecode(body),
-                id,
-                Utils.dateToString(occurredOn));
-
-        this.bus.publish(Collections.singletonList((DomainEvent) domainEvent));
+    private void executeSubscribers(OutboxEvent event) {
+        DomainEvent domainEvent = domainEventFactories.create(
+                event.name(),
+                event.aggregateId(),
+                Utils.jsonDecode(event.body()),
+                event.id(),
+                Utils.dateToString(event.occurredOn()));
+
+        this.bus.publish(Collections.singletonList(domainEvent));
+    }
+
+    /**
+     * An event to move to the dead letter table.
+     */
+    record DeadLetter(OutboxEvent event, int failures, String error) {
+    }
+
+    /**
+     * The result of relaying some events: the published ones, the dead
+     * lettered ones, the last one processed, in the order of the chunk, and
+     * whether the relay stopped on a failure.
+     */
+    record Relay(List<OutboxEvent> published, List<DeadLetter> deadLettered, OutboxEvent last, boolean failed) {
+        static Relay empty() {
+            return new Relay(List.of(), List.of(), null, false);
+        }
+
+        static Relay failure() {
+            return new Relay(List.of(), List.of(), null, true);
+        }
+
+        int processed() {
+            return published.size() + deadLettered.size();
+        }
+
+        Relay merge(Relay other) {
+            List<OutboxEvent> mergedPublished = new ArrayList<>(published);
+            mergedPublished.addAll(other.published());
+            List<DeadLetter> mergedDeadLettered = new ArrayList<>(deadLettered);
+            mergedDeadLettered.addAll(other.deadLettered());
+
+            return new Relay(
+                    mergedPublished,
+                    mergedDeadLettered,
+                    null == other.last() ? last : other.last(),
+                    failed || other.failed());
+        }
     }
 }
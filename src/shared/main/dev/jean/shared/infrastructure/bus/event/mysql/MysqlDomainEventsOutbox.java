@@ -0,0 +1,136 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * This class is responsible for reading and deleting the events of the
+ * domain_events table. It uses Hibernate to interact with the database.
+ *
+ * The events are numbered in insertion order by a seq BIGINT NOT NULL
+ * AUTO_INCREMENT UNIQUE column of domain_events. The occurred_on column only
+ * keeps the day and the IDs are random UUIDs, so neither orders the events.
+ * An existing table gets it with ALTER TABLE domain_events ADD COLUMN seq
+ * BIGINT NOT NULL AUTO_INCREMENT UNIQUE, which numbers the events already
+ * stored in no particular order.
+ *
+ * The events that can't be relayed are moved to the
+ * domain_events_dead_letter table, which has the columns of domain_events
+ * plus failures INT, last_error TEXT and dead_lettered_at TIMESTAMP.
+ *
+ * Looking for the older events of the claimed aggregates is an index seek
+ * when domain_events has an index on (aggregate_id, seq). It is a consistent
+ * read, so it also sees the rows locked by other transactions.
+ *
+ * @see MysqlDomainEventsConsumer
+ */
+public final class MysqlDomainEventsOutbox implements DomainEventsOutbox {
+    private final SessionFactory sessionFactory;
+
+    public MysqlDomainEventsOutbox(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public <T> T inTransaction(Function<OutboxTransaction, T> work) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                T result = work.apply(new MysqlOutboxTransaction(session));
+                transaction.commit();
+
+                return result;
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * The operations of the outbox in the transaction of a session.
+     */
+    private record MysqlOutboxTransaction(Session session) implements OutboxTransaction {
+        @Override
+        public List<OutboxEvent> next(long seq, int chunk) {
+            return this.events(session.createNativeQuery(
+                    "SELECT seq, id, aggregate_id, name, body, occurred_on FROM domain_events " +
+                            "WHERE seq > :seq ORDER BY seq ASC LIMIT :chunk",
+                    Object[].class)
+                    .setParameter("seq", seq)
+                    .setParameter("chunk", chunk));
+        }
+
+        @Override
+        public List<OutboxEvent> claim(int chunk) {
+            return this.events(session.createNativeQuery(
+                    "SELECT seq, id, aggregate_id, name, body, occurred_on FROM domain_events " +
+                            "ORDER BY seq ASC LIMIT :chunk FOR UPDATE SKIP LOCKED",
+                    Object[].class)
+                    .setParameter("chunk", chunk));
+        }
+
+        @Override
+        public Set<String> aggregatesWithOlderEvents(Collection<OutboxEvent> earliestEvents) {
+            if (earliestEvents.isEmpty()) {
+                return Set.of();
+            }
+
+            return new HashSet<>(session.createNativeQuery(
+                    "SELECT claimed.aggregate_id FROM domain_events claimed " +
+                            "WHERE claimed.seq IN (:seqs) AND EXISTS (" +
+                            "SELECT 1 FROM domain_events older " +
+                            "WHERE older.aggregate_id = claimed.aggregate_id AND older.seq < claimed.seq)",
+                    String.class)
+                    .setParameterList("seqs", earliestEvents.stream().map(OutboxEvent::seq).toList())
+                    .list());
+        }
+
+        @Override
+        public void delete(List<String> ids) {
+            session.createNativeMutationQuery("DELETE FROM domain_events WHERE id IN (:ids)")
+                    .setParameterList("ids", ids)
+                    .executeUpdate();
+        }
+
+        @Override
+        public void deadLetter(OutboxEvent event, int failures, String error) {
+            session.createNativeMutationQuery(
+                    "INSERT INTO domain_events_dead_letter " +
+                            "(id, aggregate_id, name, body, occurred_on, failures, last_error, dead_lettered_at) " +
+                            "SELECT id, aggregate_id, name, body, occurred_on, :failures, :error, CURRENT_TIMESTAMP " +
+                            "FROM domain_events WHERE id = :id")
+                    .setParameter("failures", failures)
+                    .setParameter("error", error)
+                    .setParameter("id", event.id())
+                    .executeUpdate();
+
+            this.delete(List.of(event.id()));
+        }
+
+        private List<OutboxEvent> events(NativeQuery<Object[]> query) {
+            return query.list().stream()
+                    .map(row -> new OutboxEvent(
+                            ((Number) row[0]).longValue(),
+                            (String) row[1],
+                            (String) row[2],
+                            (String) row[3],
+                            (String) row[4],
+                            (Timestamp) row[5]))
+                    .toList();
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package dev.jean.shared.infrastructure.bus.event.mysql;
 
-import java.io.Serializable;
-import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
 import org.hibernate.query.NativeQuery;
 
 import dev.jean.shared.domain.Utils;
@@ -13,49 +14,128 @@ import dev.jean.shared.domain.bus.event.EventBus;
 
 /**
  * This class is responsible for publishing events to the database.
- * It uses Hibernate to interact with the database.
+ * It uses Hibernate to interact with the database. The events are
+ * inserted in chunks, with a single multi-row INSERT per chunk.
+ *
+ * The events are inserted in the transaction of the current session, so they
+ * are committed with the changes that raised them. The threads without one,
+ * like the publisher thread of the RabbitMQ event bus failing events over,
+ * insert them in a transaction of their own.
  */
 public final class MysqlEventBus implements EventBus {
+    private static final Integer DEFAULT_CHUNK_SIZE = 100;
     private final SessionFactory sessionFactory;
+    private final Integer chunkSize;
+    private final ConcurrentHashMap<Integer, String> insertStatements = new ConcurrentHashMap<>();
+
+    public MysqlEventBus(SessionFactory sessionFactory, Integer chunkSize) {
+        if (null == chunkSize || chunkSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "The chunk size of the events must be at least 1, not <%s>",
+                    chunkSize));
+        }
 
-    public MysqlEventBus(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
+        this.chunkSize = chunkSize;
+    }
+
+    public MysqlEventBus(SessionFactory sessionFactory) {
+        this(sessionFactory, DEFAULT_CHUNK_SIZE);
     }
 
     /**
      * Publishes a list of events to the database.
-     * 
+     *
      * @param events List of events to be published.
      */
     @Override
     public void publish(List<DomainEvent> events) {
-        events.forEach(this::publish);
+        this.publish(sessionFactory.getCurrentSession(), events);
+    }
+
+    /**
+     * Publishes a list of events to the database in a transaction of its own,
+     * for the threads that are not running one.
+     *
+     * @param events List of events to be published.
+     */
+    public void publishInOwnTransaction(List<DomainEvent> events) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            try {
+                this.publish(session, events);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+
+                throw e;
+            }
+        }
     }
 
     /**
-     * Publishes a single event to the database.
-     * 
-     * @param event Event to be published.
+     * Publishes a list of events to the database through a session, chunk by
+     * chunk.
+     *
+     * @param session The session.
+     * @param events  List of events to be published.
      */
-    private void publish(DomainEvent event) {
-        String id = event.eventId();
-        String aggregateId = event.aggregateId();
-        String name = event.eventName();
-        HashMap<String, Serializable> body = event.toPrimitives();
-        String occurredOn = event.occurredOn();
-
-        NativeQuery<Object> query = sessionFactory.getCurrentSession().createNativeQuery(
-                "INSERT INTO domain_events (id, aggregate_id, name, body, occurred_on) " +
-                        "VALUE (:id, :aggregateId, :name, :body, :occurredOn)",
+    private void publish(Session session, List<DomainEvent> events) {
+        for (int from = 0; from < events.size(); from += this.chunkSize) {
+            this.publishChunk(session, events.subList(from, Math.min(from + this.chunkSize, events.size())));
+        }
+    }
+
+    /**
+     * Publishes a chunk of events to the database with a single statement.
+     *
+     * @param session The session.
+     * @param events  Events to be published.
+     */
+    private void publishChunk(Session session, List<DomainEvent> events) {
+        NativeQuery<Object> query = session.createNativeQuery(
+                this.insertStatement(events.size()),
                 Object.class);
 
-        query.setParameter("id", id)
-                .setParameter("aggregateId", aggregateId)
-                .setParameter("name", name)
-                .setParameter("body", Utils.jsonEncode(body))
-                .setParameter("occurredOn", occurredOn);
+        for (int i = 0; i < events.size(); i++) {
+            DomainEvent event = events.get(i);
+
+            query.setParameter("id" + i, event.eventId())
+                    .setParameter("aggregateId" + i, event.aggregateId())
+                    .setParameter("name" + i, event.eventName())
+                    .setParameter("body" + i, Utils.jsonEncode(event.toPrimitives()))
+                    .setParameter("occurredOn" + i, event.occurredOn());
+        }
 
         query.executeUpdate();
     }
 
+    /**
+     * Returns the INSERT statement for a number of events. Statements are
+     * built once per number of rows.
+     *
+     * @param rows Number of events to insert.
+     * @return The INSERT statement.
+     */
+    private String insertStatement(Integer rows) {
+        return this.insertStatements.computeIfAbsent(rows, size -> {
+            StringBuilder statement = new StringBuilder(
+                    "INSERT INTO domain_events (id, aggregate_id, name, body, occurred_on) VALUES ");
+
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    statement.append(", ");
+                }
+
+                statement.append(String.format(
+                        "(:id%1$d, :aggregateId%1$d, :name%1$d, :body%1$d, :occurredOn%1$d)", i));
+            }
+
+            return statement.toString();
+        });
+    }
+
 }
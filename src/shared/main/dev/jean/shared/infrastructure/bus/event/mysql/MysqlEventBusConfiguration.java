@@ -0,0 +1,34 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.jean.shared.infrastructure.config.Parameter;
+
+/**
+ * This class is responsible for configuring the MySQL event bus, which is
+ * also the failover publisher of the RabbitMQ event bus.
+ *
+ * @see MysqlEventBus
+ */
+@Configuration
+public class MysqlEventBusConfiguration {
+    private static final Integer DEFAULT_CHUNK_SIZE = 100;
+
+    /**
+     * This method creates the MySQL event bus, inserting the events in chunks
+     * of MYSQL_EVENTS_CHUNK_SIZE rows.
+     *
+     * @param sessionFactory The Hibernate session factory.
+     * @param config         The parameters of the environment.
+     * @return The MysqlEventBus object.
+     */
+    @Bean
+    protected MysqlEventBus mysqlEventBus(
+            @Qualifier("session_factory") SessionFactory sessionFactory,
+            Parameter config) {
+        return new MysqlEventBus(sessionFactory, config.getInt("MYSQL_EVENTS_CHUNK_SIZE", DEFAULT_CHUNK_SIZE));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.sql.Timestamp;
+
+/**
+ * This record represents an event stored in the outbox, the domain_events
+ * table, as it is read from it.
+ *
+ * @param seq         Position of the event in the outbox, numbered by the
+ *                    AUTO_INCREMENT seq column in insertion order.
+ * @param id          Event ID.
+ * @param aggregateId Aggregate ID.
+ * @param name        Event name.
+ * @param body        Event attributes, as JSON.
+ * @param occurredOn  Event occurred on.
+ */
+public record OutboxEvent(
+        Long seq,
+        String id,
+        String aggregateId,
+        String name,
+        String body,
+        Timestamp occurredOn) {
+}
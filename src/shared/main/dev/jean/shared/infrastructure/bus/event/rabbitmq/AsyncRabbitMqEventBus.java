@@ -0,0 +1,211 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.EventBus;
+import dev.jean.shared.infrastructure.bus.event.mysql.MysqlEventBus;
+
+/**
+ * This class is responsible for publishing events to RabbitMQ without
+ * blocking the publishing thread. Events are put in a bounded buffer that is
+ * drained in batches by a dedicated publisher thread. When the buffer is
+ * full, publishing waits for free space up to a timeout, and then the events
+ * that don't fit are published to the failover publisher. The events not
+ * confirmed by RabbitMQ, or whose batch failed to be published for any
+ * reason, are also published to the failover publisher, from the publisher
+ * thread, in a transaction of their own. If the failover publisher fails too,
+ * the events are logged, with their IDs, so they can be recovered.
+ *
+ * The buffer depth, the drain latency and the events failed over are
+ * recorded as metrics.
+ *
+ * @see RabbitMqEventBus
+ */
+public final class AsyncRabbitMqEventBus implements EventBus, AutoCloseable {
+    private final Integer MAX_BATCH_SIZE = 500;
+    private final Long POLL_TIMEOUT_MILLIS = 100L;
+    private final RabbitMqPublisher publisher;
+    private final MysqlEventBus failoverPublisher;
+    private final String exchangeName;
+    private final Long offerTimeoutMillis;
+    private final Logger logger;
+    private final Metrics.Gauge bufferDepth;
+    private final Metrics.Histogram drainLatency;
+    private final Metrics.Counter failedOverEvents;
+    private final ArrayBlockingQueue<BufferedEvent> buffer;
+    private final Thread publisherThread;
+    private volatile boolean shouldStop = false;
+
+    public AsyncRabbitMqEventBus(
+            RabbitMqPublisher publisher,
+            MysqlEventBus failoverPublisher,
+            String exchangeName,
+            Integer bufferCapacity,
+            Long offerTimeoutMillis,
+            Logger logger,
+            Metrics metrics) {
+        this.publisher = publisher;
+        this.failoverPublisher = failoverPublisher;
+        this.exchangeName = exchangeName;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.logger = logger;
+        this.bufferDepth = metrics.gauge("rabbitmq_events_buffer_depth", "exchange", exchangeName);
+        this.drainLatency = metrics.histogram("rabbitmq_events_drain_latency_nanoseconds", "exchange", exchangeName);
+        this.failedOverEvents = metrics.counter("rabbitmq_events_failed_over_total", "exchange", exchangeName);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.publisherThread = Thread.ofPlatform()
+                .name("rabbitmq-events-publisher")
+                .daemon()
+                .start(this::drain);
+    }
+
+    /**
+     * This method is used to put multiple events in the buffer. The events
+     * that don't fit in the buffer before the timeout are published to the
+     * failover publisher.
+     *
+     * @param events The events to publish.
+     */
+    @Override
+    public void publish(List<DomainEvent> events) {
+        List<DomainEvent> spilledEvents = new ArrayList<>();
+
+        for (DomainEvent event : events) {
+            if (!this.offer(event)) {
+                spilledEvents.add(event);
+            }
+        }
+
+        this.bufferDepth.set(this.buffer.size());
+
+        if (!spilledEvents.isEmpty()) {
+            this.failedOverEvents.increment(spilledEvents.size());
+            this.failoverPublisher.publish(spilledEvents);
+        }
+    }
+
+    /**
+     * Stops the publisher thread once the buffered events are published. If
+     * the closing thread is interrupted while waiting, it stops waiting and
+     * keeps its interrupt flag.
+     */
+    @Override
+    public void close() {
+        this.shouldStop = true;
+
+        try {
+            this.publisherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * This method is used to put an event in the buffer, waiting for free
+     * space up to the offer timeout.
+     *
+     * @param event The event.
+     * @return True if the event has been buffered.
+     */
+    private boolean offer(DomainEvent event) {
+        try {
+            return this.buffer.offer(
+                    new BufferedEvent(event, System.nanoTime()),
+                    this.offerTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+
+    /**
+     * This method is run by the publisher thread. It drains the buffer in
+     * batches until the bus is closed and the buffer is empty.
+     */
+    private void drain() {
+        List<BufferedEvent> batch = new ArrayList<>(this.MAX_BATCH_SIZE);
+
+        while (!this.shouldStop || !this.buffer.isEmpty()) {
+            try {
+                BufferedEvent first = this.buffer.poll(this.POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (null == first) {
+                    continue;
+                }
+
+                batch.add(first);
+                this.buffer.drainTo(batch, this.MAX_BATCH_SIZE - 1);
+
+                this.bufferDepth.set(this.buffer.size());
+                this.publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * This method is used to publish a drained batch to RabbitMQ, sending the
+     * unconfirmed events to the failover publisher. The time the oldest event
+     * waited since it was buffered is recorded as the drain latency.
+     *
+     * @param batch The drained batch.
+     */
+    private void publishBatch(List<BufferedEvent> batch) {
+        List<DomainEvent> events = batch.stream().map(BufferedEvent::event).toList();
+        List<DomainEvent> unconfirmedEvents;
+
+        try {
+            unconfirmedEvents = this.publisher.publish(events, this.exchangeName);
+        } catch (RuntimeException e) {
+            unconfirmedEvents = events;
+        }
+
+        if (!unconfirmedEvents.isEmpty()) {
+            this.failOver(unconfirmedEvents);
+        }
+
+        this.drainLatency.record(System.nanoTime() - batch.get(0).bufferedAt());
+    }
+
+    /**
+     * This method is used to publish the events RabbitMQ didn't confirm to the
+     * failover publisher. If it fails too, the events are logged.
+     *
+     * @param events The unconfirmed events.
+     */
+    private void failOver(List<DomainEvent> events) {
+        this.failedOverEvents.increment(events.size());
+
+        try {
+            this.failoverPublisher.publishInOwnTransaction(events);
+        } catch (RuntimeException e) {
+            HashMap<String, Serializable> context = new HashMap<>();
+            context.put("exchange", this.exchangeName);
+            context.put("error", e.toString());
+            context.put("event_ids", String.join(",", events.stream().map(DomainEvent::eventId).toList()));
+
+            this.logger.critical("The events could not be published to RabbitMQ nor to the failover publisher", context);
+        }
+    }
+
+    /**
+     * An event waiting in the buffer, with the moment it was buffered.
+     */
+    private record BufferedEvent(DomainEvent event, long bufferedAt) {
+    }
+}
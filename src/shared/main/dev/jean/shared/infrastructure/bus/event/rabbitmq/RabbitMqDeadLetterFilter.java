@@ -0,0 +1,41 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.time.LocalDate;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+
+/**
+ * Filter of the dead letter events to replay. Every criteria left empty
+ * matches any event, and the date range includes both ends.
+ *
+ * @param eventName   Event name.
+ * @param aggregateId Aggregate ID.
+ * @param from        First day the event occurred on.
+ * @param to          Last day the event occurred on.
+ */
+public record RabbitMqDeadLetterFilter(String eventName, String aggregateId, LocalDate from, LocalDate to) {
+    /**
+     * Checks if an event matches the filter.
+     * 
+     * @param domainEvent The event.
+     * @return True if the event matches every criteria.
+     */
+    public boolean matches(DomainEvent domainEvent) {
+        if (null != this.eventName && !this.eventName.equals(domainEvent.eventName())) {
+            return false;
+        }
+
+        if (null != this.aggregateId && !this.aggregateId.equals(domainEvent.aggregateId())) {
+            return false;
+        }
+
+        if (null == this.from && null == this.to) {
+            return true;
+        }
+
+        LocalDate occurredOn = LocalDate.parse(domainEvent.occurredOn());
+
+        return (null == this.from || !occurredOn.isBefore(this.from))
+                && (null == this.to || !occurredOn.isAfter(this.to));
+    }
+}
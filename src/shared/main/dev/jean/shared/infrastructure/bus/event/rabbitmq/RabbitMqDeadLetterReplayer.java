@@ -0,0 +1,223 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscriberInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
+import dev.jean.shared.infrastructure.config.Parameter;
+import dev.jean.shared.infrastructure.config.ParameterNotExist;
+
+/**
+ * This class is responsible for replaying the events of the dead letter
+ * queues. Every dead letter queue is drained with basic.get, up to the
+ * number of messages it had when the replay started, and the events
+ * matching the filter are published again to the domain events exchange,
+ * routed to the queue of their subscriber only, without their retry
+ * headers. Every event is acknowledged once the broker has confirmed its
+ * replay, at the pace allowed by a token bucket.
+ *
+ * The events that don't match the filter are moved to the tail of the dead
+ * letter queue, and acknowledged every KEPT_BATCH events once the broker has
+ * confirmed them. Requeueing them would put them back at the head, where
+ * they would be got again. As the replay stops after the messages the queue
+ * had when it started, the moved events are not got again. In a dry run
+ * nothing is moved: the events are not acknowledged while the queue is
+ * drained, and they are returned to the dead letter queue at the end.
+ *
+ * @see RabbitMqEventBusConfiguration
+ */
+@Service
+public final class RabbitMqDeadLetterReplayer {
+    private final Long CONFIRM_TIMEOUT_MILLIS = 5000L;
+    private final Integer KEPT_BATCH = 100;
+    private final RabbitTemplate rabbitTemplate;
+    private final DomainEventSubscribersInformation information;
+    private final DomainEventCodecs codecs;
+    private final String exchangeName;
+    private final Logger logger;
+
+    public RabbitMqDeadLetterReplayer(
+            RabbitTemplate rabbitTemplate,
+            DomainEventSubscribersInformation information,
+            DomainEventCodecs codecs,
+            Parameter config,
+            Logger logger) throws ParameterNotExist {
+        this.rabbitTemplate = rabbitTemplate;
+        this.information = information;
+        this.codecs = codecs;
+        this.logger = logger;
+        this.exchangeName = config.get("RABBITMQ_EXCHANGE");
+    }
+
+    /**
+     * Returns the queues of every subscriber.
+     * 
+     * @return Queue names.
+     */
+    public List<String> queues() {
+        return this.information.all().stream().map(DomainEventSubscriberInformation::formatRabbitMQQueueName).toList();
+    }
+
+    /**
+     * Replays the dead letter events of a subscriber queue.
+     * 
+     * @param queue            The subscriber queue.
+     * @param filter           The filter of the events to replay.
+     * @param permitsPerSecond Maximum events replayed per second.
+     * @param dryRun           Whether the events are only counted.
+     * @return The events replayed, or that would be replayed, and skipped.
+     */
+    public Replay replay(String queue, RabbitMqDeadLetterFilter filter, Double permitsPerSecond, Boolean dryRun) {
+        RateLimiter rateLimiter = RateLimiter.create(permitsPerSecond);
+
+        return this.rabbitTemplate.execute(channel -> this.replay(channel, queue, filter, rateLimiter, dryRun));
+    }
+
+    /**
+     * Drains the dead letter queue of a subscriber queue through a channel.
+     * 
+     * @param channel     The channel.
+     * @param queue       The subscriber queue.
+     * @param filter      The filter of the events to replay.
+     * @param rateLimiter The rate limiter of the replay.
+     * @param dryRun      Whether the events are only counted.
+     * @return The events replayed, or that would be replayed, and skipped.
+     * @throws Exception
+     */
+    private Replay replay(
+            Channel channel, String queue, RabbitMqDeadLetterFilter filter, RateLimiter rateLimiter, Boolean dryRun)
+            throws Exception {
+        String deadLetterQueue = String.format("dead_letter.%s", queue);
+        long messages = channel.queueDeclarePassive(deadLetterQueue).getMessageCount();
+        long replayed = 0;
+        long skipped = 0;
+        long lastKeptDeliveryTag = 0;
+        int keptToAcknowledge = 0;
+
+        GetResponse response;
+
+        for (long got = 0; got < messages && null != (response = channel.basicGet(deadLetterQueue, false)); got++) {
+            long deliveryTag = response.getEnvelope().getDeliveryTag();
+            boolean matches = this.matches(response, filter);
+
+            if (matches) {
+                replayed++;
+            } else {
+                skipped++;
+            }
+
+            if (dryRun) {
+                lastKeptDeliveryTag = deliveryTag;
+                continue;
+            }
+
+            if (!matches) {
+                channel.basicPublish("", deadLetterQueue, response.getProps(), response.getBody());
+                lastKeptDeliveryTag = deliveryTag;
+
+                if (++keptToAcknowledge == this.KEPT_BATCH) {
+                    this.acknowledgeKept(channel, lastKeptDeliveryTag);
+                    keptToAcknowledge = 0;
+                }
+
+                continue;
+            }
+
+            rateLimiter.acquire();
+
+            channel.basicPublish(this.exchangeName, queue, this.replayProperties(response.getProps()),
+                    response.getBody());
+            channel.waitForConfirmsOrDie(this.CONFIRM_TIMEOUT_MILLIS);
+            channel.basicAck(deliveryTag, false);
+        }
+
+        if (dryRun && lastKeptDeliveryTag > 0) {
+            channel.basicNack(lastKeptDeliveryTag, true, true);
+        } else if (keptToAcknowledge > 0) {
+            this.acknowledgeKept(channel, lastKeptDeliveryTag);
+        }
+
+        return new Replay(replayed, skipped);
+    }
+
+    /**
+     * Acknowledges the events moved to the tail of the dead letter queue, once
+     * the broker has confirmed their copies.
+     * 
+     * @param channel             The channel.
+     * @param lastKeptDeliveryTag The delivery tag of the last moved event.
+     * @throws Exception If the copies are not confirmed.
+     */
+    private void acknowledgeKept(Channel channel, long lastKeptDeliveryTag) throws Exception {
+        channel.waitForConfirmsOrDie(this.CONFIRM_TIMEOUT_MILLIS);
+        channel.basicAck(lastKeptDeliveryTag, true);
+    }
+
+    /**
+     * Checks if a dead letter event matches the filter. Events that can't be
+     * decoded don't match any filter.
+     * 
+     * @param response The dead letter message.
+     * @param filter   The filter.
+     * @return True if the event matches the filter.
+     */
+    private boolean matches(GetResponse response, RabbitMqDeadLetterFilter filter) {
+        try {
+            DomainEvent domainEvent = this.codecs
+                    .forContentType(response.getProps().getContentType())
+                    .decode(response.getBody());
+
+            return filter.matches(domainEvent);
+        } catch (RuntimeException e) {
+            HashMap<String, Serializable> context = new HashMap<>();
+            context.put("message_id", response.getProps().getMessageId());
+            context.put("error", e.toString());
+
+            this.logger.warning("The dead letter event could not be decoded, it is kept", context);
+
+            return false;
+        }
+    }
+
+    /**
+     * Returns the properties of a replayed event, without its retry headers,
+     * so it is retried again from the first tier if it fails.
+     * 
+     * @param properties The properties of the dead letter message.
+     * @return The properties of the replayed message.
+     */
+    private AMQP.BasicProperties replayProperties(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = null == properties.getHeaders()
+                ? new HashMap<>()
+                : new HashMap<>(properties.getHeaders());
+
+        headers.remove(RabbitMqRetryMetadata.REDELIVERY_COUNT);
+        headers.remove(RabbitMqRetryMetadata.FIRST_FAILURE_AT);
+        headers.remove(RabbitMqRetryMetadata.LAST_ERROR);
+
+        return properties.builder().headers(headers).build();
+    }
+
+    /**
+     * Result of a replay.
+     *
+     * @param replayed Events replayed, or that would be replayed in a dry run.
+     * @param skipped  Events that don't match the filter.
+     */
+    public record Replay(long replayed, long skipped) {
+    }
+}
@@ -1,123 +1,451 @@
 package dev.jean.shared.infrastructure.bus.event.rabbitmq;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.core.MessageBuilder;
-import org.springframework.amqp.core.MessagePropertiesBuilder;
-import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
-import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
+import com.rabbitmq.client.Channel;
+
+import dev.jean.shared.domain.Logger;
 import dev.jean.shared.domain.Service;
-import dev.jean.shared.domain.Utils;
+import dev.jean.shared.domain.bus.event.BatchDomainEventSubscriber;
 import dev.jean.shared.domain.bus.event.DomainEvent;
-import dev.jean.shared.infrastructure.bus.event.DomainEventJsonDeserializer;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscriberInformation;
 import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
 
 /**
  * This class is responsible for consuming domain events from RabbitMQ.
- * It consumes the events, deserializes them, and sends them to the subscribers.
- * If an error occurs, it sends the event to the retry or dead letter exchange.
+ * It consumes the events, decodes them with the codec of their content type,
+ * and sends them to the subscribers.
+ * If an error occurs, it sends the event to the retry queue of the tier
+ * matching its redeliveries, or to the dead letter exchange once it has been
+ * retried as many times as its subscriber allows.
+ *
+ * Once the application context is refreshed, the `on` method of every
+ * subscriber bean is bound to it for every event it subscribes to, and kept
+ * in an immutable table indexed by queue and event class. Consuming a
+ * message only looks up that table, so it can be done from any number of
+ * listener threads.
+ *
+ * Every subscriber queue is consumed by its own listener container, set up
+ * with the concurrency, prefetch count and batch size of its subscriber.
+ * Batch subscribers receive every batch delivered by their container in a
+ * single call. The messages of a batch are acknowledged one by one, as each
+ * of them is consumed or sent to retry on its own.
+ *
+ * The queues of the subscribers declared with virtual threads are consumed
+ * with manual acknowledgements: every message is handled on its own virtual
+ * thread and acknowledged once handled, with a bound of messages in flight
+ * per queue. When the bound is reached, the listener waits for a message to
+ * be handled before taking the next one.
+ *
+ * Failures to decode a message, or to find its subscriber, are handled like
+ * the failures of the subscriber. A message that can't even be sent to
+ * retry is rejected without requeueing it, so it can't loop hot on the
+ * queue. The broker then moves it to the dead letter queue of the
+ * subscriber, following the policy set by
+ * scripts/rabbitmq-dead-letter-policies.sh.
  * 
- * @see DomainEventJsonDeserializer
+ * @see DomainEventCodecs
  * @see DomainEventSubscribersInformation
  * @see RabbitMqPublisher
  */
 @Service
-public final class RabbitMqDomainEventsConsumer {
-    private final String CONSUMER_NAME = "domain_events_consumer";
-    private final Integer MAX_RETRIES = 2;
-    private final DomainEventJsonDeserializer deserializer;
+public final class RabbitMqDomainEventsConsumer implements ApplicationListener<ContextRefreshedEvent> {
+    private final DomainEventCodecs codecs;
     private final ApplicationContext context;
     private final RabbitMqPublisher publisher;
-    private final HashMap<String, Object> domainEventSubscribers = new HashMap<String, Object>();
-    private final RabbitListenerEndpointRegistry registry;
+    private volatile Map<String, Map<Class<? extends DomainEvent>, MethodHandle>> domainEventSubscribers = Map.of();
+    private volatile Map<String, BatchDomainEventSubscriber> batchDomainEventSubscribers = Map.of();
+    private final ConnectionFactory connectionFactory;
     private final DomainEventSubscribersInformation information;
+    private final RabbitMqRetryTiers retryTiers;
+    private final Logger logger;
+    private final Map<String, Integer> maxRetries;
+    private final List<SimpleMessageListenerContainer> containers = new ArrayList<>();
+    private final ConcurrentHashMap<String, LongAdder> retriedEvents = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> deadLetteredEvents = new ConcurrentHashMap<>();
+    private final Long STOP_TIMEOUT_MILLIS = 5000L;
+    private volatile ExecutorService virtualThreads;
 
     public RabbitMqDomainEventsConsumer(
-            DomainEventJsonDeserializer deserializer, ApplicationContext context,
-            RabbitMqPublisher publisher, RabbitListenerEndpointRegistry registry,
-            DomainEventSubscribersInformation information) {
-        this.deserializer = deserializer;
+            DomainEventCodecs codecs, ApplicationContext context,
+            RabbitMqPublisher publisher, ConnectionFactory connectionFactory,
+            DomainEventSubscribersInformation information, RabbitMqRetryTiers retryTiers,
+            Logger logger) {
+        this.codecs = codecs;
         this.context = context;
         this.publisher = publisher;
-        this.registry = registry;
+        this.connectionFactory = connectionFactory;
         this.information = information;
+        this.retryTiers = retryTiers;
+        this.logger = logger;
+        this.maxRetries = this.maxRetriesByQueue();
+    }
+
+    /**
+     * Binds the `on` method of every subscriber bean once the application
+     * context has been refreshed.
+     *
+     * @param event The context refreshed event.
+     * @throws IllegalStateException If a subscriber doesn't listen to an event
+     *                               it subscribes to.
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+
+        HashMap<String, Map<Class<? extends DomainEvent>, MethodHandle>> subscribers = new HashMap<>();
+        HashMap<String, BatchDomainEventSubscriber> batchSubscribers = new HashMap<>();
+
+        for (DomainEventSubscriberInformation subscriberInformation : this.information.all()) {
+            Object subscriber = this.context.getBean(subscriberInformation.subscriberClass());
+
+            if (subscriber instanceof BatchDomainEventSubscriber batchSubscriber) {
+                batchSubscribers.put(subscriberInformation.formatRabbitMQQueueName(), batchSubscriber);
+                continue;
+            }
+
+            HashMap<Class<? extends DomainEvent>, MethodHandle> invokers = new HashMap<>();
+
+            for (Class<? extends DomainEvent> domainEventClass : subscriberInformation.subscribedEvents()) {
+                invokers.put(domainEventClass, this.invoker(subscriber, domainEventClass));
+            }
+
+            subscribers.put(subscriberInformation.formatRabbitMQQueueName(), Map.copyOf(invokers));
+        }
+
+        this.domainEventSubscribers = Map.copyOf(subscribers);
+        this.batchDomainEventSubscribers = Map.copyOf(batchSubscribers);
     }
 
     /**
      * This method is used to consume domain events from RabbitMQ.
-     * It starts the listener container and adds the queue names to it.
+     * It starts a listener container for every subscriber queue.
      */
-    public void consume() {
-        AbstractMessageListenerContainer container = (AbstractMessageListenerContainer) registry
-                .getListenerContainer(this.CONSUMER_NAME);
+    public synchronized void consume() {
+        if (null == this.virtualThreads) {
+            this.virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        }
 
-        container.addQueueNames(this.information.rabbitMQFormattedNames());
-        container.start();
+        for (DomainEventSubscriberInformation subscriberInformation : this.information.all()) {
+            SimpleMessageListenerContainer container = this.container(subscriberInformation);
+
+            container.start();
+            this.containers.add(container);
+        }
+    }
+
+    /**
+     * This method is used to stop consuming domain events. The virtual
+     * threads stop taking messages, and the ones they are handling are given
+     * STOP_TIMEOUT_MILLIS to finish, so they are acknowledged before their
+     * channels are closed. Then the containers stop, once the messages of
+     * their listener threads are handled. The messages left unacknowledged
+     * are delivered again.
+     */
+    public synchronized void stop() {
+        if (null != this.virtualThreads) {
+            this.virtualThreads.shutdown();
+
+            try {
+                if (!this.virtualThreads.awaitTermination(this.STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    this.logger.warning(
+                            "The messages being handled on virtual threads didn't finish before stopping",
+                            new HashMap<>());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.virtualThreads.shutdownNow();
+            this.virtualThreads = null;
+        }
+
+        this.containers.forEach(SimpleMessageListenerContainer::stop);
+        this.containers.clear();
     }
 
     /**
      * This method is used to consume a message from RabbitMQ.
-     * It deserializes the message, gets the subscriber, and invokes the
-     * subscriber's `on` method. If an error occurs, it sends the message to the
-     * retry or dead letter exchange.
+     * It decodes the message, gets the subscriber, and invokes the
+     * subscriber's `on` method. If any of them fails, it sends the message to
+     * the retry or dead letter exchange.
      * 
      * @param message The message to consume.
-     * @throws Exception If an error occurs.
      */
-    public void consumer(Message message) throws Exception {
-        String serializedMessage = new String(message.getBody());
-        DomainEvent domainEvent = this.deserializer.deserialize(serializedMessage);
-
+    public void consumer(Message message) {
         String queue = message.getMessageProperties().getConsumerQueue();
 
-        Object subscriber = this.domainEventSubscribers.containsKey(queue)
-                ? this.domainEventSubscribers.get(queue)
-                : this.subscriberFor(queue);
+        try {
+            DomainEvent domainEvent = this.decode(message);
+            MethodHandle subscriber = this.subscriberFor(queue, domainEvent);
+
+            subscriber.invokeExact(domainEvent);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            this.handleConsumptionError(message, queue, e);
+        }
+    }
+
+    /**
+     * Returns the events of a queue sent to retry since the consumer started.
+     * 
+     * @param queue The queue name.
+     * @return Retried events.
+     */
+    public long retriedEvents(String queue) {
+        LongAdder retried = this.retriedEvents.get(queue);
+
+        return null == retried ? 0 : retried.sum();
+    }
+
+    /**
+     * Returns the events of a queue sent to the dead letter queue since the
+     * consumer started.
+     * 
+     * @param queue The queue name.
+     * @return Dead lettered events.
+     */
+    public long deadLetteredEvents(String queue) {
+        LongAdder deadLettered = this.deadLetteredEvents.get(queue);
+
+        return null == deadLettered ? 0 : deadLettered.sum();
+    }
 
-        Method subscriberOnMethod = subscriber.getClass().getMethod("on", domainEvent.getClass());
+    /**
+     * This method is used to consume a batch of messages from RabbitMQ, all of
+     * them from the same queue. It decodes the messages and invokes the
+     * batch subscriber once with the ones it could decode. A message that
+     * can't be decoded is sent alone to the retry or dead letter exchange, and
+     * if the subscriber fails, every decoded message of the batch is.
+     *
+     * The outcome of every message is settled on its own: it is acknowledged
+     * once consumed or sent to retry, and rejected without requeueing only if
+     * it couldn't even be sent to retry. So a failure sending one message to
+     * retry doesn't reject the ones already sent.
+     * 
+     * @param messages The messages to consume.
+     * @param channel  The channel the messages were delivered on.
+     */
+    public void consumer(List<Message> messages, Channel channel) {
+        String queue = messages.get(0).getMessageProperties().getConsumerQueue();
+        BatchDomainEventSubscriber subscriber = this.batchDomainEventSubscribers.get(queue);
+
+        if (null == subscriber) {
+            IllegalStateException error = new IllegalStateException(
+                    String.format("There are not registered batch subscribers for <%s> queue", queue));
+
+            messages.forEach(message -> this.reject(message, channel, error));
+            return;
+        }
+
+        List<DomainEvent> domainEvents = new ArrayList<>(messages.size());
+        List<Message> decodedMessages = new ArrayList<>(messages.size());
+
+        for (Message message : messages) {
+            try {
+                domainEvents.add(this.decode(message));
+                decodedMessages.add(message);
+            } catch (RuntimeException e) {
+                this.retryOrReject(message, channel, queue, e);
+            }
+        }
+
+        if (domainEvents.isEmpty()) {
+            return;
+        }
 
         try {
-            subscriberOnMethod.invoke(subscriber, domainEvent);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            throw new Exception(String.format(
-                    "The subscriber <%s> should implement a method `on` listening the domain event <%s>",
-                    queue,
-                    domainEvent.eventName()));
-        } catch (Exception e) {
-            this.handleConsumptionError(message, queue);
+            subscriber.on(domainEvents);
+        } catch (RuntimeException e) {
+            decodedMessages.forEach(message -> this.retryOrReject(message, channel, queue, e));
+            return;
+        }
+
+        decodedMessages.forEach(message -> this.acknowledge(message, channel));
+    }
+
+    /**
+     * This method is used to hand a message over to a virtual thread, once
+     * there is room for it in flight. The message is acknowledged when it has
+     * been consumed, or rejected without requeueing if it couldn't even be
+     * sent to retry. A message taken while the consumer stops is left
+     * unacknowledged, so it is delivered again.
+     * 
+     * @param message  The message to consume.
+     * @param channel  The channel the message was delivered on.
+     * @param inFlight The permits of the messages in flight of the queue.
+     * @throws InterruptedException If interrupted while waiting for room.
+     */
+    private void consumeOnVirtualThread(Message message, Channel channel, Semaphore inFlight)
+            throws InterruptedException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+
+        inFlight.acquire();
+
+        ExecutorService handlers = this.virtualThreads;
+
+        if (null == handlers) {
+            inFlight.release();
+            return;
+        }
+
+        try {
+            handlers.execute(() -> {
+                try {
+                    this.consumer(message);
+                    channel.basicAck(deliveryTag, false);
+                } catch (RuntimeException e) {
+                    this.reject(message, channel, e);
+                } catch (IOException e) {
+                    this.logFailure("The message could not be acknowledged", message, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * This method is used to send a failed message to retry, or to the dead
+     * letter exchange, and acknowledge it. If it can't be sent, it is
+     * rejected instead.
+     * 
+     * @param message The failed message.
+     * @param channel The channel the message was delivered on.
+     * @param queue   The queue name.
+     * @param error   The error of the failure.
+     */
+    private void retryOrReject(Message message, Channel channel, String queue, Throwable error) {
+        try {
+            this.handleConsumptionError(message, queue, error);
+        } catch (RuntimeException e) {
+            this.reject(message, channel, e);
+            return;
         }
+
+        this.acknowledge(message, channel);
+    }
+
+    /**
+     * This method is used to acknowledge a message.
+     * 
+     * @param message The message to acknowledge.
+     * @param channel The channel the message was delivered on.
+     */
+    private void acknowledge(Message message, Channel channel) {
+        try {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        } catch (IOException e) {
+            this.logFailure("The message could not be acknowledged", message, e);
+        }
+    }
+
+    /**
+     * This method is used to reject a message without requeueing it, so the
+     * broker moves it to the dead letter queue.
+     * 
+     * @param message The message to reject.
+     * @param channel The channel the message was delivered on.
+     * @param error   The error that made the message fail.
+     */
+    private void reject(Message message, Channel channel, Throwable error) {
+        this.logFailure("The message could not be consumed nor sent to retry, it is rejected", message, error);
+
+        try {
+            channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, false);
+        } catch (IOException e) {
+            this.logFailure("The message could not be rejected", message, e);
+        }
+    }
+
+    /**
+     * This method is used to log the failure of a message.
+     * 
+     * @param text    The text of the log.
+     * @param message The message.
+     * @param error   The error.
+     */
+    private void logFailure(String text, Message message, Throwable error) {
+        HashMap<String, Serializable> context = new HashMap<>();
+        context.put("queue", message.getMessageProperties().getConsumerQueue());
+        context.put("message_id", message.getMessageProperties().getMessageId());
+        context.put("delivery_tag", message.getMessageProperties().getDeliveryTag());
+        context.put("error", error.toString());
+
+        this.logger.critical(text, context);
     }
 
     /**
      * This method is used to handle a consumption error.
      * If the message has been redelivered too much, it sends the message to the
-     * dead letter exchange. Otherwise, it sends the message to the retry exchange.
+     * dead letter exchange. Otherwise, it sends the message to the retry queue
+     * of its tier. In both cases, a new message is sent, with the retry
+     * metadata updated with the failure.
      * 
-     * @param message
-     * @param queue
+     * @param message The failed message.
+     * @param queue   The queue name.
+     * @param error   The error of the failure.
      */
-    private void handleConsumptionError(Message message, String queue) {
-        if (this.hasBeenRedeliveredTooMuch(message)) {
-            this.sendToDeadLetter(message, queue);
+    private void handleConsumptionError(Message message, String queue, Throwable error) {
+        RabbitMqRetryMetadata metadata = RabbitMqRetryMetadata.of(message);
+        Message failedMessage = metadata.failed(error, Instant.now()).message(message);
+
+        if (this.hasBeenRedeliveredTooMuch(metadata, queue)) {
+            this.sendToDeadLetter(failedMessage, queue);
         } else {
-            this.sendToRetry(message, queue);
+            this.sendToRetry(failedMessage, queue, metadata);
         }
     }
 
     /**
-     * This method is used to send a message to the retry exchange.
+     * This method is used to send a message to the retry exchange, routed to
+     * the retry queue of the tier matching its redeliveries.
      * 
-     * @param message The message to send.
-     * @param queue   The queue name.
+     * @param message  The message to send.
+     * @param queue    The queue name.
+     * @param metadata The retry metadata before the failure.
      */
-    private void sendToRetry(Message message, String queue) {
-        this.sendMessageTo(RabbitMqExchangeNameFormatter.retry("domain_events"), message, queue);
+    private void sendToRetry(Message message, String queue, RabbitMqRetryMetadata metadata) {
+        Long delayMillis = this.retryTiers.delayFor(metadata.redeliveryCount());
+
+        this.publisher.publish(
+                message,
+                RabbitMqExchangeNameFormatter.retry("domain_events"),
+                RabbitMqQueueNameFormatter.formatRetry(queue, delayMillis));
+        this.retriedEvents.computeIfAbsent(queue, name -> new LongAdder()).increment();
     }
 
     /**
@@ -127,60 +455,143 @@ public final class RabbitMqDomainEventsConsumer {
      * @param queue   The queue name.
      */
     private void sendToDeadLetter(Message message, String queue) {
-        this.sendMessageTo(RabbitMqExchangeNameFormatter.deadLetter("domain_events"), message, queue);
+        this.publisher.publish(message, RabbitMqExchangeNameFormatter.deadLetter("domain_events"), queue);
+        this.deadLetteredEvents.computeIfAbsent(queue, name -> new LongAdder()).increment();
     }
 
     /**
-     * This method is used to send a message to an exchange.
+     * This method is used to check if a message has been redelivered too much.
      * 
-     * @param exchange The exchange name.
-     * @param message  The message to send.
+     * @param metadata The retry metadata of the message.
      * @param queue    The queue name.
+     * @return True if the message has been redelivered too much, false otherwise.
      */
-    private void sendMessageTo(String exchange, Message message, String queue) {
-        Map<String, Object> headers = message.getMessageProperties().getHeaders();
+    private boolean hasBeenRedeliveredTooMuch(RabbitMqRetryMetadata metadata, String queue) {
+        return metadata.redeliveryCount() >= this.maxRetries.getOrDefault(queue, this.retryTiers.delays().size());
+    }
 
-        headers.put("redelivery_count", (int) headers.getOrDefault("redelivery_count", 0) + 1);
+    /**
+     * This method is used to get the times the failed events of every queue
+     * are retried. The subscribers without a limit are retried once per tier.
+     * 
+     * @return Maximum retries by queue name.
+     */
+    private Map<String, Integer> maxRetriesByQueue() {
+        HashMap<String, Integer> maxRetriesByQueue = new HashMap<>();
 
-        MessageBuilder.fromMessage(message).andProperties(
-                MessagePropertiesBuilder.newInstance()
-                        .setContentEncoding("utf-8")
-                        .setContentType("application/json")
-                        .copyHeaders(headers)
-                        .build());
+        for (DomainEventSubscriberInformation subscriberInformation : this.information.all()) {
+            maxRetriesByQueue.put(
+                    subscriberInformation.formatRabbitMQQueueName(),
+                    subscriberInformation.maxRetries() < 0
+                            ? this.retryTiers.delays().size()
+                            : subscriberInformation.maxRetries());
+        }
 
-        this.publisher.publish(message, exchange, queue);
+        return Map.copyOf(maxRetriesByQueue);
     }
 
     /**
-     * This method is used to check if a message has been redelivered too much.
+     * This method is used to decode a message with the codec of its content
+     * type.
      * 
-     * @param message The message to check.
-     * @return True if the message has been redelivered too much, false otherwise.
+     * @param message The message to decode.
+     * @return The domain event.
      */
-    private boolean hasBeenRedeliveredTooMuch(Message message) {
-        return (int) message.getMessageProperties().getHeaders().getOrDefault("redelivery_count",
-                0) >= this.MAX_RETRIES;
+    private DomainEvent decode(Message message) {
+        return this.codecs
+                .forContentType(message.getMessageProperties().getContentType())
+                .decode(message.getBody());
     }
 
     /**
-     * This method is used to get the subscriber for a queue.
+     * This method is used to get the subscriber of a queue for an event.
      * 
-     * @param queue The queue name.
-     * @return The subscriber.
+     * @param queue       The queue name.
+     * @param domainEvent The event.
+     * @return The `on` method of the subscriber, bound to it.
+     * @throws Exception If the queue has no subscriber for the event.
      */
-    private Object subscriberFor(String queue) throws Exception {
-        String[] queueParts = queue.split("\\.");
-        String subscriberName = Utils.toCamelFirstLower(queueParts[queueParts.length - 1]);
+    private MethodHandle subscriberFor(String queue, DomainEvent domainEvent) throws Exception {
+        Map<Class<? extends DomainEvent>, MethodHandle> invokers = this.domainEventSubscribers.get(queue);
+
+        if (null == invokers) {
+            throw new Exception(String.format("There are not registered subscribers for <%s> queue", queue));
+        }
+
+        MethodHandle subscriber = invokers.get(domainEvent.getClass());
+
+        if (null == subscriber) {
+            throw new Exception(String.format(
+                    "The subscriber <%s> should implement a method `on` listening the domain event <%s>",
+                    queue,
+                    domainEvent.eventName()));
+        }
 
+        return subscriber;
+    }
+
+    /**
+     * This method is used to bind the `on` method of a subscriber for an
+     * event, adapted to receive any domain event.
+     * 
+     * @param subscriber       The subscriber bean.
+     * @param domainEventClass The event class.
+     * @return The bound `on` method.
+     * @throws IllegalStateException If the subscriber doesn't listen to the event.
+     */
+    private MethodHandle invoker(Object subscriber, Class<? extends DomainEvent> domainEventClass) {
         try {
-            Object subscriber = this.context.getBean(subscriberName);
-            this.domainEventSubscribers.put(queue, subscriber);
+            Method subscriberOnMethod = subscriber.getClass().getMethod("on", domainEventClass);
 
-            return subscriber;
-        } catch (Exception e) {
-            throw new Exception(String.format("There are not registered subscribers for <%s> queue", queue));
+            return MethodHandles.publicLookup()
+                    .unreflect(subscriberOnMethod)
+                    .bindTo(subscriber)
+                    .asType(MethodType.methodType(void.class, DomainEvent.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(String.format(
+                    "The subscriber <%s> should implement a method `on` listening the domain event <%s>",
+                    subscriber.getClass().getName(),
+                    domainEventClass.getName()), e);
         }
     }
 
+    /**
+     * This method is used to create the listener container of a subscriber
+     * queue. The containers of batch subscribers deliver lists of messages,
+     * and they and the ones of virtual thread subscribers acknowledge them
+     * manually.
+     * 
+     * @param subscriberInformation The subscriber information.
+     * @return The listener container.
+     */
+    private SimpleMessageListenerContainer container(DomainEventSubscriberInformation subscriberInformation) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(this.connectionFactory);
+
+        container.setQueueNames(subscriberInformation.formatRabbitMQQueueName());
+        container.setConcurrency(subscriberInformation.concurrency());
+        container.setPrefetchCount(subscriberInformation.prefetch());
+        container.setDefaultRequeueRejected(false);
+
+        if (this.batchDomainEventSubscribers.containsKey(subscriberInformation.formatRabbitMQQueueName())) {
+            container.setConsumerBatchEnabled(true);
+            container.setBatchSize(subscriberInformation.batchSize());
+            container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+            container.setMessageListener(
+                    (ChannelAwareBatchMessageListener) (messages, channel) -> this.consumer(messages, channel));
+        } else if (subscriberInformation.virtualThreads()) {
+            Semaphore inFlight = new Semaphore(subscriberInformation.maxInFlight());
+
+            container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+            container.setPrefetchCount(Math.max(subscriberInformation.prefetch(), subscriberInformation.maxInFlight()));
+            container.setMessageListener((ChannelAwareMessageListener) (message, channel) -> this
+                    .consumeOnVirtualThread(message, channel, inFlight));
+        } else {
+            container.setMessageListener(
+                    (ChannelAwareMessageListener) (message, channel) -> this.consumer(message));
+        }
+
+        container.afterPropertiesSet();
+
+        return container;
+    }
 }
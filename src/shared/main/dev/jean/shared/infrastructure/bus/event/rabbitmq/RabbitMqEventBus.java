@@ -1,6 +1,5 @@
 package dev.jean.shared.infrastructure.bus.event.rabbitmq;
 
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.amqp.AmqpException;
@@ -27,25 +26,24 @@ public class RabbitMqEventBus implements EventBus {
     }
 
     /**
-     * This method is used to publish a multiple events.
+     * This method is used to publish a multiple events to RabbitMQ
+     * in a single batch. The events that are not confirmed by RabbitMQ
+     * will be published to the failover publisher.
+     * 
+     * @param events The events to publish.
      */
     @Override
     public void publish(List<DomainEvent> events) {
-        events.forEach(this::publish);
-    }
+        List<DomainEvent> unconfirmedEvents;
 
-    /**
-     * This method is used to publish an event to RabbitMQ.
-     * In case of an error, it will publish the event to
-     * the failover publisher.
-     * 
-     * @param event The event to publish.
-     */
-    private void publish(DomainEvent event) {
         try {
-            this.publisher.publish(event, this.exchangeName);
+            unconfirmedEvents = this.publisher.publish(events, this.exchangeName);
         } catch (AmqpException e) {
-            this.failoverPublisher.publish(Collections.singletonList(event));
+            unconfirmedEvents = events;
+        }
+
+        if (!unconfirmedEvents.isEmpty()) {
+            this.failoverPublisher.publish(unconfirmedEvents);
         }
     }
 }
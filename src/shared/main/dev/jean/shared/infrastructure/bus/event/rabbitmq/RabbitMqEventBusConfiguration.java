@@ -17,8 +17,11 @@ import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.Metrics;
 import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
 import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+import dev.jean.shared.infrastructure.bus.event.mysql.MysqlEventBus;
 import dev.jean.shared.infrastructure.config.Parameter;
 import dev.jean.shared.infrastructure.config.ParameterNotExist;
 
@@ -26,26 +29,35 @@ import dev.jean.shared.infrastructure.config.ParameterNotExist;
  * This class is responsible for configuring the RabbitMQ event bus.
  * It creates the connection to the RabbitMQ server, declares the exchanges,
  * queues, and bindings, and returns the Declarables object.
+ *
+ * @see RabbitMqRetryTiers
  */
 @Configuration
 public class RabbitMqEventBusConfiguration {
+    private final Integer DEFAULT_BUFFER_CAPACITY = 10000;
+    private final Integer DEFAULT_OFFER_TIMEOUT_MILLIS = 50;
     private final DomainEventSubscribersInformation domainEventSubscribersInformation;
     private final DomainEventsInformation domainEventsInformation;
+    private final RabbitMqRetryTiers retryTiers;
     private final Parameter config;
     private final String exchangeName;
 
     public RabbitMqEventBusConfiguration(
             DomainEventSubscribersInformation domainEventSubscribersInformation,
             DomainEventsInformation domainEventsInformation,
+            RabbitMqRetryTiers retryTiers,
             Parameter config) throws ParameterNotExist {
         this.domainEventSubscribersInformation = domainEventSubscribersInformation;
         this.domainEventsInformation = domainEventsInformation;
+        this.retryTiers = retryTiers;
         this.config = config;
         this.exchangeName = config.get("RABBITMQ_EXCHANGE");
     }
 
     /**
      * This method creates the connection to the RabbitMQ server.
+     * Publisher confirms are correlated, so every published message
+     * can be confirmed on its own.
      *
      * @return The CachingConnectionFactory object.
      * @throws ParameterNotExist
@@ -58,6 +70,7 @@ public class RabbitMqEventBusConfiguration {
         factory.setPort(this.config.getInt("RABBITMQ_PORT"));
         factory.setUsername(this.config.get("RABBITMQ_USER"));
         factory.setPassword(this.config.get("RABBITMQ_PASSWORD"));
+        factory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
 
         return factory;
     }
@@ -93,10 +106,44 @@ public class RabbitMqEventBusConfiguration {
         return new Declarables(declarables);
     }
 
+    /**
+     * This method creates the event bus publishing to RabbitMQ from a bounded
+     * buffer of RABBITMQ_EVENTS_BUFFER_CAPACITY events, waiting up to
+     * RABBITMQ_EVENTS_OFFER_TIMEOUT_MS for free space. Its failover publisher
+     * is the MySQL event bus, so it needs the MySQL module. The publisher
+     * thread is stopped when the context is closed.
+     *
+     * @param publisher         The RabbitMQ publisher.
+     * @param failoverPublisher The MySQL event bus.
+     * @param logger            The logger.
+     * @param metrics           The metrics.
+     * @return The AsyncRabbitMqEventBus object.
+     */
+    @Bean
+    protected AsyncRabbitMqEventBus eventBus(
+            RabbitMqPublisher publisher,
+            MysqlEventBus failoverPublisher,
+            Logger logger,
+            Metrics metrics) {
+        return new AsyncRabbitMqEventBus(
+                publisher,
+                failoverPublisher,
+                this.exchangeName,
+                this.config.getInt("RABBITMQ_EVENTS_BUFFER_CAPACITY", this.DEFAULT_BUFFER_CAPACITY),
+                this.config.getInt("RABBITMQ_EVENTS_OFFER_TIMEOUT_MS", this.DEFAULT_OFFER_TIMEOUT_MILLIS).longValue(),
+                logger,
+                metrics);
+    }
+
     /**
      * This method declares the queues and bindings for the RabbitMQ event bus.
-     * It creates the queues for the main queue, the retry queue, and the dead
-     * letter queue, and the bindings for the domain events.
+     * It creates the queues for the main queue, a retry queue per retry tier,
+     * and the dead letter queue, and the bindings for the domain events.
+     *
+     * The main queue is declared without arguments, as declaring an existing
+     * queue with other arguments fails. The messages rejected from it are
+     * dead lettered to the dead letter queue by the broker once the policy
+     * of scripts/rabbitmq-dead-letter-policies.sh is set.
      * 
      * @param domainEventsExchange           The main exchange.
      * @param retryDomainEventsExchange      The retry exchange.
@@ -109,12 +156,9 @@ public class RabbitMqEventBusConfiguration {
             TopicExchange deadLetterDomainEventsExchange) {
         return this.domainEventSubscribersInformation.all().stream().map(information -> {
             String queueName = RabbitMqQueueNameFormatter.format(information);
-            String retryQueueName = RabbitMqQueueNameFormatter.formatRetry(information);
             String deadLetterQueueName = RabbitMqQueueNameFormatter.formatDeadLetter(information);
 
             Queue queue = QueueBuilder.durable(queueName).build();
-            Queue retryQueue = QueueBuilder.durable(retryQueueName).withArguments(
-                    retryQueueArguments(domainEventsExchange, queueName)).build();
             Queue deadLetterQueue = QueueBuilder.durable(deadLetterQueueName).build();
 
             Binding fromExchangeSameQueueBinding = BindingBuilder
@@ -122,11 +166,6 @@ public class RabbitMqEventBusConfiguration {
                     .to(domainEventsExchange)
                     .with(queueName);
 
-            Binding fromRetryExchangeSameQueueBinding = BindingBuilder
-                    .bind(retryQueue)
-                    .to(retryDomainEventsExchange)
-                    .with(queueName);
-
             Binding fromDeadLetterExchangeSameQueueBinding = BindingBuilder
                     .bind(deadLetterQueue)
                     .to(deadLetterDomainEventsExchange)
@@ -146,8 +185,20 @@ public class RabbitMqEventBusConfiguration {
             queuesAndBindings.add(fromExchangeSameQueueBinding);
             queuesAndBindings.addAll(fromExchangeDomainEventsBindings);
 
-            queuesAndBindings.add(retryQueue);
-            queuesAndBindings.add(fromRetryExchangeSameQueueBinding);
+            for (Long delayMillis : this.retryTiers.delays()) {
+                String retryQueueName = RabbitMqQueueNameFormatter.formatRetry(information, delayMillis);
+
+                Queue retryQueue = QueueBuilder.durable(retryQueueName).withArguments(
+                        retryQueueArguments(domainEventsExchange, queueName, delayMillis)).build();
+
+                Binding fromRetryExchangeSameQueueBinding = BindingBuilder
+                        .bind(retryQueue)
+                        .to(retryDomainEventsExchange)
+                        .with(retryQueueName);
+
+                queuesAndBindings.add(retryQueue);
+                queuesAndBindings.add(fromRetryExchangeSameQueueBinding);
+            }
 
             queuesAndBindings.add(deadLetterQueue);
             queuesAndBindings.add(fromDeadLetterExchangeSameQueueBinding);
@@ -159,16 +210,18 @@ public class RabbitMqEventBusConfiguration {
     /**
      * This method returns the arguments for the retry queue.
      *
-     * @param exchange   The exchange.
-     * @param routingKey The routing key.
+     * @param exchange    The exchange.
+     * @param routingKey  The routing key.
+     * @param delayMillis The delay of the retry tier in milliseconds.
      * @return The arguments for the retry queue.
      */
-    private HashMap<String, Object> retryQueueArguments(TopicExchange exchange, String routingKey) {
+    private HashMap<String, Object> retryQueueArguments(
+            TopicExchange exchange, String routingKey, Long delayMillis) {
         return new HashMap<String, Object>() {
             {
                 put("x-dead-letter-exchange", exchange.getName());
                 put("x-dead-letter-routing-key", routingKey);
-                put("x-message-ttl", 1000);
+                put("x-message-ttl", delayMillis);
             }
         };
     }
@@ -1,49 +1,82 @@
 package dev.jean.shared.infrastructure.bus.event.rabbitmq;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.event.DomainEvent;
-import dev.jean.shared.infrastructure.bus.event.DomainEventJsonSerializer;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodec;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
 
 /**
  * This class is responsible for publishing events to RabbitMQ.
  */
 @Service
 public final class RabbitMqPublisher {
+    private final Long CONFIRM_TIMEOUT_MILLIS = 5000L;
     private final RabbitTemplate rabbitTemplate;
+    private final DomainEventCodecs codecs;
 
-    public RabbitMqPublisher(RabbitTemplate rabbitTemplate) {
+    public RabbitMqPublisher(RabbitTemplate rabbitTemplate, DomainEventCodecs codecs) {
         this.rabbitTemplate = rabbitTemplate;
+        this.codecs = codecs;
     }
 
     /**
      * This method is used to publish an event to RabbitMQ.
-     * 
+     *
      * @param domainEvent  The event to publish.
      * @param exchangeName The exchange name.
      * @throws AmqpException
      */
     public void publish(DomainEvent domainEvent, String exchangeName) throws AmqpException {
-        String serializedDomainEvent = DomainEventJsonSerializer.serialize(domainEvent);
+        rabbitTemplate.send(exchangeName, domainEvent.eventName(), this.message(domainEvent));
+    }
 
-        Message message = new Message(
-                serializedDomainEvent.getBytes(),
-                MessagePropertiesBuilder
-                        .newInstance()
-                        .setContentEncoding("utf-8")
-                        .setContentType("application/json")
-                        .build());
+    /**
+     * This method is used to publish a batch of events to RabbitMQ.
+     * Every event is sent through the same channel, and then the publisher
+     * confirms of the whole batch are awaited once. The events that are not
+     * confirmed by the broker in time are returned, so the caller can publish
+     * them somewhere else.
+     *
+     * @param domainEvents The events to publish.
+     * @param exchangeName The exchange name.
+     * @return The events that have not been confirmed.
+     */
+    public List<DomainEvent> publish(List<DomainEvent> domainEvents, String exchangeName) {
+        List<Message> messages = domainEvents.stream().map(this::message).toList();
 
-        rabbitTemplate.send(exchangeName, domainEvent.eventName(), message);
+        return rabbitTemplate.invoke(operations -> {
+            List<CorrelationData> confirmations = new ArrayList<>(domainEvents.size());
+
+            try {
+                for (int i = 0; i < domainEvents.size(); i++) {
+                    CorrelationData confirmation = new CorrelationData(domainEvents.get(i).eventId());
+
+                    operations.send(exchangeName, domainEvents.get(i).eventName(), messages.get(i), confirmation);
+                    confirmations.add(confirmation);
+                }
+            } catch (AmqpException e) {
+                // The events not sent are returned as unconfirmed
+            }
+
+            return this.unconfirmed(domainEvents, confirmations);
+        });
     }
 
     /**
      * This method is used to publish a message to RabbitMQ.
-     * 
+     *
      * @param domainEvent  The message to publish.
      * @param exchangeName The exchange name.
      * @param routingKey   The routing key.
@@ -52,4 +85,67 @@ public final class RabbitMqPublisher {
     public void publish(Message domainEvent, String exchangeName, String routingKey) throws AmqpException {
         rabbitTemplate.send(exchangeName, routingKey, domainEvent);
     }
+
+    /**
+     * This method is used to build the message of an event. The event is
+     * encoded straight to the message body with the publishing codec, whose
+     * content type is set in the message.
+     *
+     * @param domainEvent The event.
+     * @return The message.
+     */
+    private Message message(DomainEvent domainEvent) {
+        DomainEventCodec codec = this.codecs.publishing();
+
+        return new Message(
+                codec.encode(domainEvent),
+                MessagePropertiesBuilder
+                        .newInstance()
+                        .setContentEncoding(codec.contentEncoding())
+                        .setContentType(codec.contentType())
+                        .build());
+    }
+
+    /**
+     * This method is used to wait for the publisher confirms of a batch.
+     * The events without a confirmation, the ones negatively acknowledged and
+     * the ones not confirmed before the timeout are considered unconfirmed.
+     *
+     * @param domainEvents  The events of the batch.
+     * @param confirmations The confirmations of the events sent, in order.
+     * @return The events that have not been confirmed.
+     */
+    private List<DomainEvent> unconfirmed(List<DomainEvent> domainEvents, List<CorrelationData> confirmations) {
+        List<DomainEvent> unconfirmed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.CONFIRM_TIMEOUT_MILLIS);
+
+        for (int i = 0; i < domainEvents.size(); i++) {
+            if (i >= confirmations.size() || !this.isConfirmed(confirmations.get(i), deadline)) {
+                unconfirmed.add(domainEvents.get(i));
+            }
+        }
+
+        return unconfirmed;
+    }
+
+    /**
+     * This method is used to wait for the publisher confirm of an event.
+     *
+     * @param confirmation The confirmation of the event.
+     * @param deadline     The deadline in nanoseconds.
+     * @return True if the broker acknowledged the event before the deadline.
+     */
+    private boolean isConfirmed(CorrelationData confirmation, long deadline) {
+        try {
+            return confirmation.getFuture()
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                    .isAck();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
 }
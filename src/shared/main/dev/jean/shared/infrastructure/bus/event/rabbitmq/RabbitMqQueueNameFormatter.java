@@ -21,14 +21,27 @@ public final class RabbitMqQueueNameFormatter {
     }
 
     /**
-     * This method formats the queue name for the retry queue.
-     * It appends the string "retry." to the beginning of the queue name.
+     * This method formats the queue name for the retry queue of a tier.
+     * It appends the string "retry.{delay}ms." to the beginning of the queue
+     * name, so changing the delay of a tier declares a new queue.
      * 
      * @param information The DomainEventSubscriberInformation object.
+     * @param delayMillis The delay of the tier in milliseconds.
      * @return The formatted queue name.
      */
-    public static String formatRetry(DomainEventSubscriberInformation information) {
-        return String.format("retry.%s", format(information));
+    public static String formatRetry(DomainEventSubscriberInformation information, Long delayMillis) {
+        return formatRetry(format(information), delayMillis);
+    }
+
+    /**
+     * This method formats the retry queue name of a tier from the queue name.
+     * 
+     * @param queueName   The queue name.
+     * @param delayMillis The delay of the tier in milliseconds.
+     * @return The formatted queue name.
+     */
+    public static String formatRetry(String queueName, Long delayMillis) {
+        return String.format("retry.%dms.%s", delayMillis, queueName);
     }
 
     /**
@@ -0,0 +1,80 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+
+/**
+ * Retry metadata of a domain event message, carried in its headers: the
+ * times it has been redelivered, when it failed for the first time and the
+ * class of the last error. The failed messages are never modified, the
+ * metadata is written to a new message with the same body.
+ *
+ * @param redeliveryCount Times the message has been redelivered.
+ * @param firstFailureAt  When the message failed for the first time, as an
+ *                        ISO-8601 instant, or null if it has never failed.
+ * @param lastError       Class of the last error, or null if it has never
+ *                        failed.
+ */
+public record RabbitMqRetryMetadata(Integer redeliveryCount, String firstFailureAt, String lastError) {
+    public static final String REDELIVERY_COUNT = "redelivery_count";
+    public static final String FIRST_FAILURE_AT = "first_failure_at";
+    public static final String LAST_ERROR = "last_error";
+
+    /**
+     * Reads the retry metadata of a message.
+     * 
+     * @param message The message.
+     * @return The retry metadata.
+     */
+    public static RabbitMqRetryMetadata of(Message message) {
+        Map<String, Object> headers = message.getMessageProperties().getHeaders();
+        Object redeliveryCount = headers.get(REDELIVERY_COUNT);
+        Object firstFailureAt = headers.get(FIRST_FAILURE_AT);
+        Object lastError = headers.get(LAST_ERROR);
+
+        return new RabbitMqRetryMetadata(
+                redeliveryCount instanceof Number count ? count.intValue() : 0,
+                null == firstFailureAt ? null : firstFailureAt.toString(),
+                null == lastError ? null : lastError.toString());
+    }
+
+    /**
+     * Returns the retry metadata after a new failure of the message.
+     * 
+     * @param error    The error of the failure.
+     * @param failedAt When the message failed.
+     * @return The retry metadata.
+     */
+    public RabbitMqRetryMetadata failed(Throwable error, Instant failedAt) {
+        return new RabbitMqRetryMetadata(
+                this.redeliveryCount + 1,
+                null == this.firstFailureAt ? failedAt.toString() : this.firstFailureAt,
+                error.getClass().getName());
+    }
+
+    /**
+     * Builds a new message with the body, the content type and the headers
+     * of a failed message, and this retry metadata.
+     * 
+     * @param failed The failed message.
+     * @return The message to publish.
+     */
+    public Message message(Message failed) {
+        MessageProperties properties = failed.getMessageProperties();
+
+        return new Message(
+                failed.getBody(),
+                MessagePropertiesBuilder.newInstance()
+                        .setContentType(properties.getContentType())
+                        .setContentEncoding(properties.getContentEncoding())
+                        .copyHeaders(properties.getHeaders())
+                        .setHeader(REDELIVERY_COUNT, this.redeliveryCount)
+                        .setHeader(FIRST_FAILURE_AT, this.firstFailureAt)
+                        .setHeader(LAST_ERROR, this.lastError)
+                        .build());
+    }
+}
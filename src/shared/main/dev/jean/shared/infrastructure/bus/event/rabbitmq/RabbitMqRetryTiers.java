@@ -0,0 +1,55 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import java.util.Arrays;
+import java.util.List;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.infrastructure.config.Parameter;
+
+/**
+ * This class is responsible for the delays of the retry tiers. Every
+ * subscriber queue has a retry queue per tier, whose messages go back to the
+ * subscriber queue once the delay of the tier has passed. The delays are read
+ * from the RABBITMQ_RETRY_TIERS parameter, as a comma separated list of
+ * milliseconds, and the tier of a message is chosen from the number of times
+ * it has been redelivered: the first retry waits for the first tier, the
+ * second for the second one, and so on, staying in the last tier.
+ *
+ * @see RabbitMqEventBusConfiguration
+ * @see RabbitMqDomainEventsConsumer
+ */
+@Service
+public final class RabbitMqRetryTiers {
+    private final String DEFAULT_TIERS = "1000,10000,60000,600000";
+    private final List<Long> delays;
+
+    public RabbitMqRetryTiers(Parameter config) {
+        this.delays = Arrays.stream(config.get("RABBITMQ_RETRY_TIERS", this.DEFAULT_TIERS).split(","))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .toList();
+
+        if (this.delays.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one retry tier");
+        }
+    }
+
+    /**
+     * Returns the delays of every tier, in order.
+     *
+     * @return Delays in milliseconds.
+     */
+    public List<Long> delays() {
+        return this.delays;
+    }
+
+    /**
+     * Returns the delay of the retry of a message.
+     *
+     * @param redeliveryCount Times the message has been redelivered.
+     * @return Delay in milliseconds.
+     */
+    public Long delayFor(Integer redeliveryCount) {
+        return this.delays.get(Math.min(redeliveryCount, this.delays.size() - 1));
+    }
+}
@@ -0,0 +1,60 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.bus.query.Query;
+import dev.jean.shared.domain.bus.query.QueryBus;
+import dev.jean.shared.domain.bus.query.QueryHandlerExecutionError;
+import dev.jean.shared.domain.bus.query.Response;
+
+/**
+ * This class is responsible for answering cacheable queries from the
+ * QueryResponseCache. Queries not annotated with CacheableQuery, and the
+ * ones that are not cached yet, are asked to the decorated query bus. The
+ * version of the aggregate is taken before asking, so a response read while
+ * the aggregate changes is not cached. The hits and misses of the cache are
+ * counted in the query_cache_hits_total and query_cache_misses_total
+ * metrics.
+ *
+ * @see QueryResponseCache
+ * @see dev.jean.shared.infrastructure.bus.event.QueryCacheInvalidatingEventBus
+ */
+public final class CachedQueryBus implements QueryBus {
+    private final QueryBus bus;
+    private final QueryResponseCache cache;
+    private final Metrics.Counter hits;
+    private final Metrics.Counter misses;
+
+    public CachedQueryBus(QueryBus bus, QueryResponseCache cache, Metrics metrics) {
+        this.bus = bus;
+        this.cache = cache;
+        this.hits = metrics.counter("query_cache_hits_total");
+        this.misses = metrics.counter("query_cache_misses_total");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R extends Response> R ask(Query query) throws QueryHandlerExecutionError {
+        if (!cache.isCacheable(query)) {
+            return bus.ask(query);
+        }
+
+        long version = cache.version(query);
+        Response cachedResponse = cache.get(query);
+
+        if (null != cachedResponse) {
+            hits.increment(1);
+
+            return (R) cachedResponse;
+        }
+
+        misses.increment(1);
+
+        R response = bus.ask(query);
+
+        if (null != response) {
+            cache.put(query, response, version);
+        }
+
+        return response;
+    }
+}
@@ -1,35 +1,96 @@
 package dev.jean.shared.infrastructure.bus.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.query.Query;
 import dev.jean.shared.domain.bus.query.QueryBus;
 import dev.jean.shared.domain.bus.query.QueryHandler;
 import dev.jean.shared.domain.bus.query.QueryHandlerExecutionError;
+import dev.jean.shared.domain.bus.query.QueryNotRegisteredError;
 import dev.jean.shared.domain.bus.query.Response;
 
+/**
+ * This class is responsible for asking queries to their handlers.
+ * Once the application context is refreshed, every handler bean is bound
+ * to its query class in an immutable table, so asking a query is a table
+ * lookup and a direct call to the handler. Until then, handlers are
+ * searched and resolved on every ask.
+ *
+ * @see QueryHandlersInformation
+ */
 @Service
-public class InMemoryQueryBus implements QueryBus {
+public class InMemoryQueryBus implements QueryBus, ApplicationListener<ContextRefreshedEvent> {
     private final QueryHandlersInformation information;
     private final ApplicationContext context;
+    @SuppressWarnings("rawtypes")
+    private volatile Map<Class<? extends Query>, QueryHandler> handlers = Map.of();
 
     public InMemoryQueryBus(QueryHandlersInformation information, ApplicationContext context) {
         this.information = information;
         this.context = context;
     }
 
+    /**
+     * Binds the handler bean of every registered query once the application
+     * context has been refreshed.
+     *
+     * @param event The context refreshed event.
+     */
+    @SuppressWarnings("rawtypes")
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (event.getApplicationContext() != context) {
+            return;
+        }
+
+        HashMap<Class<? extends Query>, QueryHandler> boundHandlers = new HashMap<>();
+
+        information.all().forEach(
+                (queryClass, queryHandlerClass) -> boundHandlers.put(
+                        queryClass,
+                        context.getBean(queryHandlerClass)));
+
+        this.handlers = Map.copyOf(boundHandlers);
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public Response ask(Query query) throws QueryHandlerExecutionError {
-        try {
-            Class<? extends QueryHandler> queryHandlerClass = information.search(query.getClass());
-            QueryHandler handler = context.getBean(queryHandlerClass);
+        QueryHandler handler = handlers.get(query.getClass());
 
+        if (null == handler) {
+            handler = this.resolve(query.getClass());
+        }
+
+        try {
             return handler.handle(query);
         } catch (Throwable e) {
             throw new QueryHandlerExecutionError(e);
         }
     }
 
+    /**
+     * Resolves the handler of a query that is not in the handlers table.
+     *
+     * @param queryClass The query class.
+     * @return The query handler.
+     * @throws QueryHandlerExecutionError If the query has no handler.
+     */
+    @SuppressWarnings("rawtypes")
+    private QueryHandler resolve(Class<? extends Query> queryClass) throws QueryHandlerExecutionError {
+        try {
+            Class<? extends QueryHandler> queryHandlerClass = information.search(queryClass);
+
+            return context.getBean(queryHandlerClass);
+        } catch (QueryNotRegisteredError | RuntimeException e) {
+            throw new QueryHandlerExecutionError(e);
+        }
+    }
+
 }
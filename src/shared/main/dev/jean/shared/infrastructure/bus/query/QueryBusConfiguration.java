@@ -0,0 +1,60 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.infrastructure.bus.event.QueryCacheInvalidatingEventBus;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.AsyncRabbitMqEventBus;
+
+/**
+ * This class is responsible for configuring the query bus with the cache of
+ * the query responses. The cached query bus is the primary QueryBus, and
+ * the event bus that invalidates the cached responses of the published
+ * events is the primary EventBus.
+ *
+ * The invalidating event bus decorates the RabbitMQ event bus, so it needs
+ * the RabbitMQ module. It is lazy, like that event bus when the module is
+ * optional.
+ *
+ * @see CachedQueryBus
+ * @see QueryCacheInvalidatingEventBus
+ */
+@Configuration
+@Import({ QueryHandlersInformation.class, InMemoryQueryBus.class, QueryResponseCache.class })
+public class QueryBusConfiguration {
+    /**
+     * This method creates the query bus answering the cacheable queries from
+     * the cache, and asking the rest to the in memory query bus.
+     *
+     * @param bus     The in memory query bus.
+     * @param cache   The cache of the query responses.
+     * @param metrics The metrics.
+     * @return The CachedQueryBus object.
+     */
+    @Bean
+    @Primary
+    protected CachedQueryBus cachedQueryBus(InMemoryQueryBus bus, QueryResponseCache cache, Metrics metrics) {
+        return new CachedQueryBus(bus, cache, metrics);
+    }
+
+    /**
+     * This method creates the event bus publishing to RabbitMQ and
+     * invalidating the cached responses of the aggregates of the events.
+     *
+     * @param bus   The RabbitMQ event bus.
+     * @param cache The cache of the query responses.
+     * @return The QueryCacheInvalidatingEventBus object.
+     */
+    @Bean
+    @Primary
+    @Lazy
+    protected QueryCacheInvalidatingEventBus queryCacheInvalidatingEventBus(
+            AsyncRabbitMqEventBus bus,
+            QueryResponseCache cache) {
+        return new QueryCacheInvalidatingEventBus(bus, cache);
+    }
+}
@@ -6,9 +6,11 @@ import dev.jean.shared.domain.Service;
 import dev.jean.shared.domain.bus.query.Query;
 import dev.jean.shared.domain.bus.query.QueryHandler;
 import dev.jean.shared.domain.bus.query.QueryNotRegisteredError;
+import dev.jean.shared.infrastructure.ClassIndex;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -20,21 +22,17 @@ public final class QueryHandlersInformation {
     HashMap<Class<? extends Query>, Class<? extends QueryHandler>> indexedQueryHandlers;
 
     @SuppressWarnings("rawtypes")
-    public QueryHandlersInformation() {
-        Reflections reflections = new Reflections("dev.jean");
-        Set<Class<? extends QueryHandler>> classes = reflections
-                .getSubTypesOf(QueryHandler.class);
+    public QueryHandlersInformation(
+            HashMap<Class<? extends Query>, Class<? extends QueryHandler>> indexedQueryHandlers) {
+        this.indexedQueryHandlers = indexedQueryHandlers;
+    }
 
-        this.indexedQueryHandlers = this.formatHandlers(classes);
+    public QueryHandlersInformation() {
+        this(ClassIndex.load()
+                .map(QueryHandlersInformation::fromIndex)
+                .orElseGet(QueryHandlersInformation::scan));
     }
 
-    /**
-     * Searches for a query handler.
-     * 
-     * @param queryClass Query class.
-     * @return Query handler class.
-     * @throws QueryNotRegisteredError
-     */
     @SuppressWarnings("rawtypes")
     public Class<? extends QueryHandler> search(Class<? extends Query> queryClass)
             throws QueryNotRegisteredError {
@@ -47,6 +45,45 @@ public final class QueryHandlersInformation {
         return queryHandlerClass;
     }
 
+    /**
+     * Returns every query indexed with the class of its handler.
+     * 
+     * @return Query handler classes by query class.
+     */
+    @SuppressWarnings("rawtypes")
+    public Map<Class<? extends Query>, Class<? extends QueryHandler>> all() {
+        return indexedQueryHandlers;
+    }
+
+    /**
+     * Indexes the handlers listed in the class index generated at compile time.
+     * 
+     * @param index The class index.
+     * @return Query handler classes by query class.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static HashMap<Class<? extends Query>, Class<? extends QueryHandler>> fromIndex(ClassIndex index) {
+        HashMap<Class<? extends Query>, Class<? extends QueryHandler>> handlers = new HashMap<>();
+
+        index.queryHandlers().forEach((queryClass, handlerClass) -> handlers.put(
+                (Class<? extends Query>) ClassIndex.forName(queryClass),
+                (Class<? extends QueryHandler>) ClassIndex.forName(handlerClass)));
+
+        return handlers;
+    }
+
+    /**
+     * Indexes the handlers scanning the classpath, when there is no class index.
+     * 
+     * @return Query handler classes by query class.
+     */
+    @SuppressWarnings("rawtypes")
+    private static HashMap<Class<? extends Query>, Class<? extends QueryHandler>> scan() {
+        Reflections reflections = new Reflections("dev.jean");
+
+        return formatHandlers(reflections.getSubTypesOf(QueryHandler.class));
+    }
+
     /**
      * Formats the query handlers.
      * 
@@ -54,7 +91,7 @@ public final class QueryHandlersInformation {
      * @return Formatted query handlers.
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private HashMap<Class<? extends Query>, Class<? extends QueryHandler>> formatHandlers(
+    private static HashMap<Class<? extends Query>, Class<? extends QueryHandler>> formatHandlers(
             Set<Class<? extends QueryHandler>> queryHandlers) {
         HashMap<Class<? extends Query>, Class<? extends QueryHandler>> handlers = new HashMap<>();
 
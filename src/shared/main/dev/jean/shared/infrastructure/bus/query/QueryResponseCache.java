@@ -0,0 +1,203 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+
+import dev.jean.shared.domain.Service;
+import dev.jean.shared.domain.bus.query.AggregateQuery;
+import dev.jean.shared.domain.bus.query.CacheableQuery;
+import dev.jean.shared.domain.bus.query.Query;
+import dev.jean.shared.domain.bus.query.Response;
+
+/**
+ * This class is responsible for keeping the responses of the queries
+ * annotated with CacheableQuery. Every query type has its own cache, bounded
+ * by the size and the TTL declared in its annotation. The responses of
+ * aggregate queries are also indexed by aggregate ID, so they can be
+ * invalidated when the aggregate changes.
+ *
+ * A response read while its aggregate changes must not be cached, so every
+ * aggregate has a version, bumped when it is invalidated. Callers take the
+ * version before asking the query, and the response is dropped if the
+ * version changed meanwhile. The versions are striped by aggregate ID, so
+ * their memory is bounded. Two aggregates sharing a stripe only drop some
+ * extra responses.
+ *
+ * @see CacheableQuery
+ * @see CachedQueryBus
+ */
+@Service
+public final class QueryResponseCache {
+    private final Integer VERSION_STRIPES = 4096;
+    private final ConcurrentHashMap<Class<? extends Query>, Optional<Cache<Query, Response>>> caches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<AggregateQuery>> queriesByAggregate = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * Returns whether the responses of a query can be cached.
+     *
+     * @param query The query.
+     * @return True if the query type is annotated with CacheableQuery.
+     */
+    public boolean isCacheable(Query query) {
+        return this.cacheFor(query.getClass()).isPresent();
+    }
+
+    /**
+     * Returns the cached response of a query, if any.
+     *
+     * @param query The query.
+     * @return The cached response, or null if it is not cached.
+     */
+    public Response get(Query query) {
+        return this.cacheFor(query.getClass()).map(cache -> cache.getIfPresent(query)).orElse(null);
+    }
+
+    /**
+     * Returns the version of the aggregate read by a query, to be taken
+     * before the query is asked and given back when its response is cached.
+     *
+     * @param query The query.
+     * @return The version, always 0 for queries that don't read an aggregate.
+     */
+    public long version(Query query) {
+        if (query instanceof AggregateQuery aggregateQuery) {
+            return versions.get(this.stripe(aggregateQuery.aggregateId()));
+        }
+
+        return 0;
+    }
+
+    /**
+     * Caches the response of a query, unless its aggregate has been
+     * invalidated since the version was taken.
+     *
+     * The response is cached and indexed before the version is checked
+     * again, so an invalidation running at the same time either finds it in
+     * the index or makes this method remove it.
+     *
+     * @param query    The query.
+     * @param response The response.
+     * @param version  The version taken before the query was asked.
+     */
+    public void put(Query query, Response response, long version) {
+        this.cacheFor(query.getClass()).ifPresent(cache -> {
+            if (!(query instanceof AggregateQuery aggregateQuery)) {
+                cache.put(query, response);
+                return;
+            }
+
+            int stripe = this.stripe(aggregateQuery.aggregateId());
+
+            if (versions.get(stripe) != version) {
+                return;
+            }
+
+            cache.put(query, response);
+
+            queriesByAggregate.compute(aggregateQuery.aggregateId(), (aggregateId, queries) -> {
+                Set<AggregateQuery> indexed = null == queries ? ConcurrentHashMap.newKeySet() : queries;
+                indexed.add(aggregateQuery);
+
+                return indexed;
+            });
+
+            if (versions.get(stripe) != version) {
+                cache.invalidate(query);
+            }
+        });
+    }
+
+    /**
+     * Removes every cached response of the queries reading an aggregate.
+     * The version of the aggregate is bumped first, so the responses being
+     * read at the same time are not cached.
+     *
+     * @param aggregateId The aggregate ID.
+     */
+    public void invalidate(String aggregateId) {
+        versions.incrementAndGet(this.stripe(aggregateId));
+
+        Set<AggregateQuery> queries = queriesByAggregate.remove(aggregateId);
+
+        if (null == queries) {
+            return;
+        }
+
+        queries.forEach(query -> this.cacheFor(query.getClass()).ifPresent(cache -> cache.invalidate(query)));
+    }
+
+    /**
+     * Returns the cache of a query type, built from its CacheableQuery
+     * annotation the first time it is asked.
+     *
+     * @param queryClass The query class.
+     * @return The cache, or empty if the query type is not cacheable.
+     */
+    private Optional<Cache<Query, Response>> cacheFor(Class<? extends Query> queryClass) {
+        return caches.computeIfAbsent(queryClass, this::buildCache);
+    }
+
+    /**
+     * Builds the cache of a query type from its CacheableQuery annotation.
+     *
+     * @param queryClass The query class.
+     * @return The cache, or empty if the query type is not annotated.
+     */
+    private Optional<Cache<Query, Response>> buildCache(Class<? extends Query> queryClass) {
+        CacheableQuery annotation = queryClass.getAnnotation(CacheableQuery.class);
+
+        if (null == annotation) {
+            return Optional.empty();
+        }
+
+        RemovalListener<Query, Response> unindexListener = this::unindex;
+
+        return Optional.of(CacheBuilder.newBuilder()
+                .expireAfterWrite(annotation.ttl(), TimeUnit.SECONDS)
+                .maximumSize(annotation.maximumSize())
+                .removalListener(unindexListener)
+                .build());
+    }
+
+    /**
+     * Removes an evicted query from the aggregate index. Replaced responses
+     * keep their query indexed, and so do the queries cached again since,
+     * e.g. when an expired response is replaced. The index is updated inside
+     * compute, so it is atomic with the updates of put and invalidate.
+     *
+     * @param notification The removal notification.
+     */
+    private void unindex(RemovalNotification<Query, Response> notification) {
+        if (notification.getCause() == RemovalCause.REPLACED) {
+            return;
+        }
+
+        if (notification.getKey() instanceof AggregateQuery query) {
+            queriesByAggregate.computeIfPresent(query.aggregateId(), (aggregateId, queries) -> {
+                boolean cachedAgain = this.cacheFor(query.getClass())
+                        .map(cache -> cache.asMap().containsKey(query))
+                        .orElse(false);
+
+                if (!cachedAgain) {
+                    queries.remove(query);
+                }
+
+                return queries.isEmpty() ? null : queries;
+            });
+        }
+    }
+
+    private int stripe(String aggregateId) {
+        return Math.floorMod(aggregateId.hashCode(), VERSION_STRIPES);
+    }
+}
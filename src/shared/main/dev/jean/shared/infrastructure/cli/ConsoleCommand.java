@@ -0,0 +1,56 @@
+package dev.jean.shared.infrastructure.cli;
+
+import java.util.HashMap;
+
+/**
+ * Console command run by the Starter. Its options are given as
+ * `--name=value`, or as `--name` for flags, after the application and
+ * command names.
+ */
+public abstract class ConsoleCommand {
+    /**
+     * Runs the command.
+     * 
+     * @param args The arguments of the Starter.
+     */
+    public abstract void execute(String[] args);
+
+    /**
+     * Returns the options of the command.
+     * 
+     * @param args The arguments of the Starter.
+     * @return The options by name. Flags have an empty value.
+     */
+    protected HashMap<String, String> options(String[] args) {
+        HashMap<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+
+            String[] option = arg.substring(2).split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+
+        return options;
+    }
+
+    /**
+     * Prints an informative message.
+     * 
+     * @param message The message.
+     */
+    protected void info(String message) {
+        System.out.println(message);
+    }
+
+    /**
+     * Prints an error message.
+     * 
+     * @param message The message.
+     */
+    protected void error(String message) {
+        System.err.println(message);
+    }
+}
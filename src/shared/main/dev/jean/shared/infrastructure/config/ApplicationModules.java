@@ -0,0 +1,254 @@
+package dev.jean.shared.infrastructure.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.amqp.rabbit.config.RabbitListenerConfigUtils;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+import org.springframework.context.annotation.FullyQualifiedAnnotationBeanNameGenerator;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import dev.jean.shared.domain.Service;
+
+/**
+ * This class is responsible for building the application context of an
+ * application from the bounded contexts and the infrastructure modules it
+ * declares, instead of everything found on the classpath.
+ *
+ * The auto-configurations of the modules that are not declared are excluded.
+ * The required modules are initialized on startup, and the beans of the
+ * optional modules are initialized lazily, on first use. The lazy lifecycle
+ * beans of the optional modules are not started either, see
+ * LazyLifecycleProcessor, nor the lazy listener beans created to receive the
+ * events of the context, see LazyApplicationEventMulticaster. The bounded
+ * contexts are scanned for Spring components and services.
+ *
+ * The consumers of the RabbitMQ module create their listener containers on
+ * their own, so when the module is optional the post-processor of the
+ * RabbitListener annotations is not registered. It would create the listener
+ * endpoint registry once the singletons are instantiated.
+ *
+ * When the application runs with the context generated ahead of time, all of
+ * this was already applied while generating it.
+ *
+ * @see InfrastructureModule
+ */
+public final class ApplicationModules implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+    private static final String RABBIT_LISTENER_ANNOTATION_PROCESSOR =
+            RabbitListenerConfigUtils.RABBIT_LISTENER_ANNOTATION_PROCESSOR_BEAN_NAME;
+    private final List<String> boundedContexts;
+    private final Set<InfrastructureModule> requiredModules;
+    private final Set<InfrastructureModule> optionalModules;
+
+    public ApplicationModules(
+            List<String> boundedContexts,
+            Set<InfrastructureModule> requiredModules,
+            Set<InfrastructureModule> optionalModules) {
+        this.boundedContexts = boundedContexts;
+        this.requiredModules = requiredModules;
+        this.optionalModules = optionalModules;
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        if (AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+
+        this.excludeUnusedModules(context);
+
+        BeanDefinitionRegistry registry = (BeanDefinitionRegistry) context;
+
+        new AnnotatedBeanDefinitionReader(registry).register(this.configurations(this.declaredModules()));
+
+        if (!boundedContexts.isEmpty()) {
+            ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(registry);
+            scanner.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+            scanner.scan(boundedContexts.toArray(String[]::new));
+        }
+
+        if (!optionalModules.isEmpty()) {
+            this.registerLifecycleProcessor(context, registry);
+            registry.registerBeanDefinition(
+                    AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME,
+                    new RootBeanDefinition(LazyApplicationEventMulticaster.class));
+        }
+
+        context.addBeanFactoryPostProcessor(beanFactory -> this.initializeOptionalModulesLazily(context, beanFactory));
+    }
+
+    /**
+     * Excludes the auto-configurations of the modules the application doesn't
+     * declare, keeping the exclusions already configured.
+     *
+     * @param context The application context.
+     */
+    private void excludeUnusedModules(ConfigurableApplicationContext context) {
+        List<String> exclusions = new ArrayList<>();
+        String configured = context.getEnvironment().getProperty("spring.autoconfigure.exclude");
+
+        if (null != configured && !configured.isBlank()) {
+            exclusions.add(configured);
+        }
+
+        for (InfrastructureModule module : InfrastructureModule.values()) {
+            if (!requiredModules.contains(module) && !optionalModules.contains(module)) {
+                exclusions.addAll(module.autoConfigurations());
+            }
+        }
+
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource(
+                "applicationModules",
+                Map.of("spring.autoconfigure.exclude", String.join(",", exclusions))));
+    }
+
+    /**
+     * Registers the lifecycle processor that doesn't start the lazy beans, in
+     * place of the one of Spring Boot, with the same shutdown timeout.
+     *
+     * @param context  The application context.
+     * @param registry The bean definition registry of the context.
+     */
+    private void registerLifecycleProcessor(ConfigurableApplicationContext context, BeanDefinitionRegistry registry) {
+        RootBeanDefinition lifecycleProcessor = new RootBeanDefinition(LazyLifecycleProcessor.class);
+
+        Binder.get(context.getEnvironment())
+                .bind("spring.lifecycle.timeout-per-shutdown-phase", Duration.class)
+                .ifBound(timeout -> lifecycleProcessor
+                        .getPropertyValues()
+                        .add("timeoutPerShutdownPhase", timeout.toMillis()));
+
+        registry.registerBeanDefinition(AbstractApplicationContext.LIFECYCLE_PROCESSOR_BEAN_NAME, lifecycleProcessor);
+    }
+
+    /**
+     * Returns the classes of some modules, each one once, as modules can share
+     * them.
+     *
+     * @param modules The modules.
+     * @return The configuration and service classes.
+     */
+    private Class<?>[] configurations(Set<InfrastructureModule> modules) {
+        Set<Class<?>> configurations = new LinkedHashSet<>();
+
+        for (InfrastructureModule module : modules) {
+            configurations.addAll(module.configurations());
+        }
+
+        return configurations.toArray(Class<?>[]::new);
+    }
+
+    /**
+     * Marks as lazy the beans that belong only to optional modules. The beans
+     * shared with a required module are initialized on startup. Removes the
+     * RabbitListener annotation post-processor of an optional RabbitMQ
+     * module.
+     *
+     * @param context     The application context.
+     * @param beanFactory The bean factory, with every bean definition loaded.
+     */
+    private void initializeOptionalModulesLazily(
+            ConfigurableApplicationContext context,
+            ConfigurableListableBeanFactory beanFactory) {
+        if (optionalModules.isEmpty()) {
+            return;
+        }
+
+        Set<String> beanNames = this.beanNamesOf(context, optionalModules);
+        beanNames.removeAll(this.beanNamesOf(context, requiredModules));
+
+        for (String beanName : beanNames) {
+            if (beanFactory.containsBeanDefinition(beanName)) {
+                beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+            }
+        }
+
+        if (optionalModules.contains(InfrastructureModule.RABBITMQ)
+                && !requiredModules.contains(InfrastructureModule.RABBITMQ)
+                && beanFactory.containsBeanDefinition(RABBIT_LISTENER_ANNOTATION_PROCESSOR)) {
+            ((BeanDefinitionRegistry) beanFactory).removeBeanDefinition(RABBIT_LISTENER_ANNOTATION_PROCESSOR);
+        }
+    }
+
+    /**
+     * Returns the names of the beans some modules register on their own. Their
+     * classes and auto-configurations are processed in a registry of their
+     * own, with the environment of the application, so the beans they import
+     * from other packages or register programmatically, like the RabbitMQ
+     * listener endpoint registry, belong to them too. The beans are named as
+     * in the application context: the auto-configurations, and every class
+     * they import, by their class name. The infrastructure beans of Spring
+     * are shared by every module, so they belong to none.
+     *
+     * @param context The application context.
+     * @param modules The modules.
+     * @return The bean names.
+     */
+    private Set<String> beanNamesOf(ConfigurableApplicationContext context, Set<InfrastructureModule> modules) {
+        if (modules.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registry.setBeanClassLoader(context.getClassLoader());
+
+        AnnotatedBeanDefinitionReader reader = new AnnotatedBeanDefinitionReader(registry, context.getEnvironment());
+        Set<String> infrastructure = Set.of(registry.getBeanDefinitionNames());
+
+        reader.register(this.configurations(modules));
+        reader.setBeanNameGenerator(FullyQualifiedAnnotationBeanNameGenerator.INSTANCE);
+
+        for (InfrastructureModule module : modules) {
+            for (String autoConfiguration : module.autoConfigurations()) {
+                if (ClassUtils.isPresent(autoConfiguration, context.getClassLoader())) {
+                    reader.registerBean(ClassUtils.resolveClassName(autoConfiguration, context.getClassLoader()));
+                }
+            }
+        }
+
+        ConfigurationClassPostProcessor configurationClasses = new ConfigurationClassPostProcessor();
+        configurationClasses.setEnvironment(context.getEnvironment());
+        configurationClasses.setResourceLoader(context);
+        configurationClasses.setBeanClassLoader(context.getClassLoader());
+        configurationClasses.postProcessBeanDefinitionRegistry(registry);
+
+        Set<String> beanNames = new LinkedHashSet<>();
+
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            if (!infrastructure.contains(beanName)
+                    && registry.getBeanDefinition(beanName).getRole() != BeanDefinition.ROLE_INFRASTRUCTURE) {
+                beanNames.add(beanName);
+            }
+        }
+
+        return beanNames;
+    }
+
+    private Set<InfrastructureModule> declaredModules() {
+        Set<InfrastructureModule> modules = EnumSet.noneOf(InfrastructureModule.class);
+
+        modules.addAll(requiredModules);
+        modules.addAll(optionalModules);
+
+        return modules;
+    }
+}
@@ -0,0 +1,84 @@
+package dev.jean.shared.infrastructure.config;
+
+import java.util.List;
+
+import dev.jean.shared.infrastructure.bus.event.CborDomainEventCodec;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
+import dev.jean.shared.infrastructure.bus.event.DomainEventFactories;
+import dev.jean.shared.infrastructure.bus.event.DomainEventJsonDeserializer;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventsInformation;
+import dev.jean.shared.infrastructure.bus.event.JsonDomainEventCodec;
+import dev.jean.shared.infrastructure.bus.event.mysql.MysqlEventBusConfiguration;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqEventBusConfiguration;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqPublisher;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.RabbitMqRetryTiers;
+import dev.jean.shared.infrastructure.logger.Log4jLogger;
+
+/**
+ * This enum represents the infrastructure modules an application can
+ * declare. Every module lists the Spring Boot auto-configurations that belong
+ * to it, which are excluded when the application doesn't declare it, and the
+ * shared kernel classes it adds to the application context.
+ *
+ * @see ApplicationModules
+ */
+public enum InfrastructureModule {
+    RABBITMQ(
+            List.of("org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration"),
+            List.of(
+                    EnviromentConfig.class,
+                    Parameter.class,
+                    RabbitMqEventBusConfiguration.class,
+                    RabbitMqRetryTiers.class,
+                    DomainEventsInformation.class,
+                    DomainEventSubscribersInformation.class,
+                    DomainEventFactories.class,
+                    DomainEventJsonDeserializer.class,
+                    JsonDomainEventCodec.class,
+                    CborDomainEventCodec.class,
+                    DomainEventCodecs.class,
+                    RabbitMqPublisher.class,
+                    Log4jLogger.class)),
+    MYSQL(
+            List.of(
+                    "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.jdbc.JdbcClientAutoConfiguration"),
+            List.of(
+                    EnviromentConfig.class,
+                    Parameter.class,
+                    MysqlEventBusConfiguration.class)),
+    ELASTICSEARCH(
+            List.of(
+                    "org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchRestClientAutoConfiguration",
+                    "org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration"),
+            List.of());
+
+    private final List<String> autoConfigurations;
+    private final List<Class<?>> configurations;
+
+    InfrastructureModule(List<String> autoConfigurations, List<Class<?>> configurations) {
+        this.autoConfigurations = autoConfigurations;
+        this.configurations = configurations;
+    }
+
+    /**
+     * Returns the names of the Spring Boot auto-configurations of the module.
+     *
+     * @return The auto-configuration class names.
+     */
+    public List<String> autoConfigurations() {
+        return autoConfigurations;
+    }
+
+    /**
+     * Returns the shared kernel classes the module adds to the context.
+     *
+     * @return The configuration and service classes.
+     */
+    public List<Class<?>> configurations() {
+        return configurations;
+    }
+}
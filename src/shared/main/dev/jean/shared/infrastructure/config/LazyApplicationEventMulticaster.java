@@ -0,0 +1,43 @@
+package dev.jean.shared.infrastructure.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+
+/**
+ * This class is responsible for multicasting the events of the application
+ * context to its listeners, like the default multicaster, but the lazy
+ * listener beans that have not been created yet. The default multicaster
+ * creates every listener bean the event is for, so the optional modules would
+ * be initialized on the first event anyway, e.g. by the RabbitMQ listener
+ * endpoint registry, which listens to the context refresh.
+ *
+ * A lazy listener bean created later receives the events from then on, as
+ * the context adds it to the multicaster when it is created.
+ *
+ * @see ApplicationModules
+ */
+final class LazyApplicationEventMulticaster extends SimpleApplicationEventMulticaster {
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public void addApplicationListenerBean(String listenerBeanName) {
+        if (!this.beanFactory.containsSingleton(listenerBeanName) && this.isLazy(listenerBeanName)) {
+            return;
+        }
+
+        super.addApplicationListenerBean(listenerBeanName);
+    }
+
+    private boolean isLazy(String beanName) {
+        return this.beanFactory.containsBeanDefinition(beanName)
+                && this.beanFactory.getMergedBeanDefinition(beanName).isLazyInit();
+    }
+}
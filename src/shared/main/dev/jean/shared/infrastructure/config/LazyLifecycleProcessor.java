@@ -0,0 +1,73 @@
+package dev.jean.shared.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.support.DefaultLifecycleProcessor;
+
+/**
+ * This class is responsible for starting and stopping the lifecycle beans of
+ * the application context, like the default lifecycle processor, but the lazy
+ * beans that have not been created yet. The default processor creates every
+ * SmartLifecycle bean to start it, so the optional modules would be
+ * initialized on startup anyway, e.g. by the RabbitMQ listener endpoint
+ * registry, and on shutdown too, only to be stopped.
+ *
+ * A lazy lifecycle bean created after the context is refreshed is not
+ * started by the context, it is stopped on shutdown.
+ *
+ * @see ApplicationModules
+ */
+final class LazyLifecycleProcessor extends DefaultLifecycleProcessor {
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    protected Map<String, Lifecycle> getLifecycleBeans() {
+        Map<String, Lifecycle> beans = new LinkedHashMap<>();
+
+        for (String beanName : this.beanFactory.getBeanNamesForType(Lifecycle.class, false, false)) {
+            String beanNameToRegister = BeanFactoryUtils.transformedBeanName(beanName);
+            boolean isFactoryBean = this.beanFactory.isFactoryBean(beanNameToRegister);
+            String beanNameToCheck = isFactoryBean ? BeanFactory.FACTORY_BEAN_PREFIX + beanName : beanName;
+            boolean created = this.beanFactory.containsSingleton(beanNameToRegister);
+
+            if (!created && this.isLazy(beanNameToRegister)) {
+                continue;
+            }
+
+            if ((created && (!isFactoryBean || this.matchesBeanType(Lifecycle.class, beanNameToCheck)))
+                    || this.matchesBeanType(SmartLifecycle.class, beanNameToCheck)) {
+                Object bean = this.beanFactory.getBean(beanNameToCheck);
+
+                if (bean != this && bean instanceof Lifecycle lifecycle) {
+                    beans.put(beanNameToRegister, lifecycle);
+                }
+            }
+        }
+
+        return beans;
+    }
+
+    private boolean isLazy(String beanName) {
+        return this.beanFactory.containsBeanDefinition(beanName)
+                && this.beanFactory.getMergedBeanDefinition(beanName).isLazyInit();
+    }
+
+    private boolean matchesBeanType(Class<?> type, String beanName) {
+        Class<?> beanType = this.beanFactory.getType(beanName);
+
+        return null != beanType && type.isAssignableFrom(beanType);
+    }
+}
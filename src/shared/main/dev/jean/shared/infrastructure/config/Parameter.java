@@ -31,6 +31,20 @@ public final class Parameter {
         return value;
     }
 
+    /**
+     * Get a parameter from the environment file,
+     * or the default value if it does not exist.
+     * 
+     * @param key          The key of the parameter.
+     * @param defaultValue The value to use if the parameter does not exist.
+     * @return The value of the parameter.
+     */
+    public String get(String key, String defaultValue) {
+        String value = dotenv.get(key);
+
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Get a parameter from the environment file
      * and parse it to an integer.
@@ -44,4 +58,19 @@ public final class Parameter {
 
         return Integer.parseInt(value);
     }
+
+    /**
+     * Get a parameter from the environment file
+     * and parse it to an integer, or the default
+     * value if it does not exist.
+     * 
+     * @param key          The key of the parameter.
+     * @param defaultValue The value to use if the parameter does not exist.
+     * @return The value of the parameter.
+     */
+    public Integer getInt(String key, Integer defaultValue) {
+        String value = dotenv.get(key);
+
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
 }
@@ -0,0 +1,70 @@
+package dev.jean.shared.infrastructure.logger;
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.message.StringMapMessage;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.Service;
+
+/**
+ * This class is responsible for logging through Log4j. The context of a
+ * message is logged as the fields of a map message, so the JSON layout
+ * writes every entry as its own field.
+ */
+@Service
+public final class Log4jLogger implements Logger {
+    private final org.apache.logging.log4j.Logger logger;
+
+    public Log4jLogger(String name) {
+        this.logger = LogManager.getLogger(name);
+    }
+
+    public Log4jLogger() {
+        this("dev.jean");
+    }
+
+    @Override
+    public void info(String $message) {
+        this.log(Level.INFO, $message, new HashMap<>());
+    }
+
+    @Override
+    public void info(String $message, HashMap<String, Serializable> $context) {
+        this.log(Level.INFO, $message, $context);
+    }
+
+    @Override
+    public void warning(String $message) {
+        this.log(Level.WARN, $message, new HashMap<>());
+    }
+
+    @Override
+    public void warning(String $message, HashMap<String, Serializable> $context) {
+        this.log(Level.WARN, $message, $context);
+    }
+
+    @Override
+    public void critical(String $message) {
+        this.log(Level.ERROR, $message, new HashMap<>());
+    }
+
+    @Override
+    public void critical(String $message, HashMap<String, Serializable> $context) {
+        this.log(Level.ERROR, $message, $context);
+    }
+
+    private void log(Level level, String message, HashMap<String, Serializable> context) {
+        if (!logger.isEnabled(level)) {
+            return;
+        }
+
+        StringMapMessage mapMessage = new StringMapMessage().with("message", message);
+        context.forEach((key, value) -> mapMessage.with(key, String.valueOf(value)));
+
+        logger.log(level, mapMessage);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.jean.shared.domain.Metrics;
+
+/**
+ * This class represents one labelled series of a counter, kept in a
+ * LongAdder, striped across threads under contention.
+ */
+public final class CounterSeries implements Metrics.Counter, MetricSeries {
+    private final String labels;
+    private final LongAdder counter = new LongAdder();
+
+    public CounterSeries(String labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public void increment(long times) {
+        counter.add(times);
+    }
+
+    @Override
+    public String labels() {
+        return labels;
+    }
+
+    @Override
+    public void writeTo(StringBuilder out, String name) {
+        PrometheusTextFormat.sample(out, name, labels, counter.sum());
+    }
+}
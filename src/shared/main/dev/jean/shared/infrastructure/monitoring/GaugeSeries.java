@@ -0,0 +1,38 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.jean.shared.domain.Metrics;
+
+/**
+ * This class represents one labelled series of a gauge, kept in an
+ * AtomicLong.
+ */
+public final class GaugeSeries implements Metrics.Gauge, MetricSeries {
+    private final String labels;
+    private final AtomicLong gauge = new AtomicLong();
+
+    public GaugeSeries(String labels) {
+        this.labels = labels;
+    }
+
+    @Override
+    public void add(long amount) {
+        gauge.addAndGet(amount);
+    }
+
+    @Override
+    public void set(long value) {
+        gauge.set(value);
+    }
+
+    @Override
+    public String labels() {
+        return labels;
+    }
+
+    @Override
+    public void writeTo(StringBuilder out, String name) {
+        PrometheusTextFormat.sample(out, name, labels, gauge.get());
+    }
+}
@@ -0,0 +1,74 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import dev.jean.shared.domain.Metrics;
+
+/**
+ * This class represents one labelled series of a histogram. Values are
+ * recorded in an HdrHistogram Recorder, which is wait-free and doesn't
+ * allocate, and the sum in a LongAdder. When the series is scraped, the
+ * values recorded since the last scrape are added to the total histogram,
+ * reusing the interval histogram, and written as a Prometheus summary.
+ *
+ * Values are kept with two significant digits, from 0 to one hour in
+ * nanoseconds. Values out of the range are recorded at its bounds.
+ */
+public final class HistogramSeries implements Metrics.Histogram, MetricSeries {
+    private final Long HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toNanos(1);
+    private final Integer SIGNIFICANT_DIGITS = 2;
+    private final double[] QUANTILES = { 0.5, 0.9, 0.99, 0.999 };
+    private final String labels;
+    private final String[] quantileLabels;
+    private final Recorder recorder;
+    private final Histogram total;
+    private final LongAdder sum = new LongAdder();
+    private Histogram interval;
+
+    public HistogramSeries(String labels) {
+        this.labels = labels;
+        this.quantileLabels = new String[QUANTILES.length];
+        this.recorder = new Recorder(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+        this.total = new Histogram(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+
+        for (int i = 0; i < QUANTILES.length; i++) {
+            String quantile = "quantile=\"" + QUANTILES[i] + "\"";
+            this.quantileLabels[i] = labels.isEmpty() ? quantile : labels + "," + quantile;
+        }
+    }
+
+    @Override
+    public void record(long value) {
+        recorder.recordValue(Math.min(Math.max(value, 0), HIGHEST_TRACKABLE_VALUE));
+        sum.add(value);
+    }
+
+    @Override
+    public String labels() {
+        return labels;
+    }
+
+    /**
+     * Writes the series as the samples of a Prometheus summary: the
+     * quantiles, the sum and the count of every value recorded.
+     *
+     * @param out  The text to append to.
+     * @param name The metric name.
+     */
+    @Override
+    public synchronized void writeTo(StringBuilder out, String name) {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+
+        for (int i = 0; i < QUANTILES.length; i++) {
+            PrometheusTextFormat.sample(out, name, quantileLabels[i], total.getValueAtPercentile(QUANTILES[i] * 100));
+        }
+
+        PrometheusTextFormat.sample(out, name + "_sum", labels, sum.sum());
+        PrometheusTextFormat.sample(out, name + "_count", labels, total.getTotalCount());
+    }
+}
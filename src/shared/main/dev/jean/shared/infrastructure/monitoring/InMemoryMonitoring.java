@@ -0,0 +1,79 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.Monitoring;
+
+/**
+ * This class adapts the Monitoring of one named metric on top of the handles
+ * of the Metrics registry. The counter is written as name_total, the gauge
+ * as name, and the histograms as the summary name_observations.
+ *
+ * The histogram series are still looked up by the labels map on every
+ * observation, so new code should record on a Metrics.Histogram handle.
+ *
+ * @see MetricsRegistry
+ */
+public final class InMemoryMonitoring implements Monitoring {
+    private final Metrics metrics;
+    private final String observations;
+    private final Metrics.Counter counter;
+    private final Metrics.Gauge gauge;
+    private final ConcurrentHashMap<Map<String, String>, Metrics.Histogram> histograms = new ConcurrentHashMap<>();
+
+    public InMemoryMonitoring(Metrics metrics, String name) {
+        PrometheusTextFormat.metricName(name);
+
+        this.metrics = metrics;
+        this.observations = name + "_observations";
+        this.counter = metrics.counter(name + "_total");
+        this.gauge = metrics.gauge(name);
+    }
+
+    @Override
+    public void incrementCounter(int times) {
+        counter.increment(times);
+    }
+
+    @Override
+    public void incrementGauge(int times) {
+        gauge.add(times);
+    }
+
+    @Override
+    public void decrementGauge(int times) {
+        gauge.add(-times);
+    }
+
+    @Override
+    public void setGauge(int value) {
+        gauge.set(value);
+    }
+
+    @Override
+    public void observeHistogram(int value, HashMap<String, String> labels) {
+        Metrics.Histogram histogram = histograms.get(labels);
+
+        if (null == histogram) {
+            // The labels are copied, so the caller can reuse its map
+            histogram = histograms.computeIfAbsent(Map.copyOf(labels), this::histogram);
+        }
+
+        histogram.record(value);
+    }
+
+    private Metrics.Histogram histogram(Map<String, String> labels) {
+        String[] pairs = new String[labels.size() * 2];
+        int i = 0;
+
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            pairs[i++] = label.getKey();
+            pairs[i++] = label.getValue();
+        }
+
+        return metrics.histogram(observations, pairs);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * This class represents a metric with a name and a type, and every labelled
+ * series of it, indexed by their formatted labels.
+ *
+ * @param <S> The type of the series.
+ */
+public final class MetricFamily<S extends MetricSeries> {
+    private final String name;
+    private final String type;
+    private final Function<String, S> seriesFactory;
+    private final ConcurrentHashMap<String, S> series = new ConcurrentHashMap<>();
+
+    public MetricFamily(String name, String type, Function<String, S> seriesFactory) {
+        this.name = PrometheusTextFormat.metricName(name);
+        this.type = type;
+        this.seriesFactory = seriesFactory;
+    }
+
+    /**
+     * Returns the type of the metric.
+     *
+     * @return The Prometheus type: counter, gauge or summary.
+     */
+    public String type() {
+        return type;
+    }
+
+    /**
+     * Returns the series with some labels, creating it the first time.
+     *
+     * @param labels The label names and values, in pairs.
+     * @return The series.
+     */
+    public S series(String... labels) {
+        return series.computeIfAbsent(PrometheusTextFormat.labels(labels), seriesFactory);
+    }
+
+    /**
+     * Writes the metric and its series, sorted by labels, in the Prometheus
+     * text format.
+     *
+     * @param out The text to append to.
+     */
+    public void writeTo(StringBuilder out) {
+        if (series.isEmpty()) {
+            return;
+        }
+
+        PrometheusTextFormat.type(out, name, type);
+        new TreeMap<>(series).values().forEach(labelled -> labelled.writeTo(out, name));
+    }
+}
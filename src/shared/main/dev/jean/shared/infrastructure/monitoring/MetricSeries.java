@@ -0,0 +1,22 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+/**
+ * This interface represents one labelled series of a metric, which can be
+ * written in the Prometheus text format.
+ */
+public interface MetricSeries {
+    /**
+     * Returns the formatted labels of the series.
+     *
+     * @return The labels, e.g. command="CreateUser".
+     */
+    String labels();
+
+    /**
+     * Writes the samples of the series.
+     *
+     * @param out  The text to append to.
+     * @param name The metric name.
+     */
+    void writeTo(StringBuilder out, String name);
+}
@@ -0,0 +1,80 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.Monitoring;
+import dev.jean.shared.domain.Service;
+
+/**
+ * This class is responsible for keeping every metric of the application by
+ * name, and writing them all when Prometheus scrapes them. Callers resolve
+ * the handle of a labelled series once and keep it, so recording on it
+ * doesn't look the metric up, nor build its labels.
+ *
+ * @see MetricFamily
+ * @see InMemoryMonitoring
+ */
+@Service
+public final class MetricsRegistry implements Metrics {
+    private final ConcurrentHashMap<String, MetricFamily<?>> families = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Monitoring> monitorings = new ConcurrentHashMap<>();
+
+    @Override
+    public Metrics.Counter counter(String name, String... labels) {
+        return this.family(name, "counter", CounterSeries::new).series(labels);
+    }
+
+    @Override
+    public Metrics.Gauge gauge(String name, String... labels) {
+        return this.family(name, "gauge", GaugeSeries::new).series(labels);
+    }
+
+    @Override
+    public Metrics.Histogram histogram(String name, String... labels) {
+        return this.family(name, "summary", HistogramSeries::new).series(labels);
+    }
+
+    /**
+     * Returns the Monitoring of a metric, adapted on top of its handles.
+     *
+     * @param name The metric name, valid for Prometheus.
+     * @return The monitoring of the metric.
+     */
+    public Monitoring monitoring(String name) {
+        return monitorings.computeIfAbsent(name, key -> new InMemoryMonitoring(this, key));
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format, sorted by name.
+     *
+     * @return The metrics text.
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder();
+
+        new TreeMap<>(families).values().forEach(family -> family.writeTo(out));
+
+        return out.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends MetricSeries> MetricFamily<S> family(
+            String name,
+            String type,
+            Function<String, S> seriesFactory) {
+        MetricFamily<?> family = families.computeIfAbsent(name, key -> new MetricFamily<>(key, type, seriesFactory));
+
+        if (!family.type().equals(type)) {
+            throw new IllegalArgumentException(String.format(
+                    "The metric <%s> is a %s, not a %s",
+                    name,
+                    family.type(),
+                    type));
+        }
+
+        return (MetricFamily<S>) family;
+    }
+}
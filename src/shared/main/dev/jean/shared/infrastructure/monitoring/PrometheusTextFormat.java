@@ -0,0 +1,110 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * This class is responsible for writing metrics in the Prometheus text
+ * exposition format. The labels of a series are formatted once, when the
+ * series is created, so scraping only appends the already formatted text.
+ */
+public final class PrometheusTextFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final Pattern METRIC_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL_NAME = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    private PrometheusTextFormat() {
+    }
+
+    /**
+     * Ensures a metric name is valid for Prometheus.
+     *
+     * @param name The metric name.
+     * @return The same metric name.
+     */
+    public static String metricName(String name) {
+        if (null == name || !METRIC_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException(String.format("The metric name <%s> is not valid", name));
+        }
+
+        return name;
+    }
+
+    /**
+     * Formats the labels of a series given as name and value pairs.
+     *
+     * @param labels The label names and values, in pairs.
+     * @return The formatted labels, e.g. command="CreateUser",status="ok".
+     */
+    public static String labels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("The labels must be name and value pairs");
+        }
+
+        TreeMap<String, String> pairs = new TreeMap<>();
+
+        for (int i = 0; i < labels.length; i += 2) {
+            pairs.put(labels[i], labels[i + 1]);
+        }
+
+        return labels(pairs);
+    }
+
+    /**
+     * Formats the labels of a series, sorted by name, without the braces.
+     *
+     * @param labels The labels of the series.
+     * @return The formatted labels, e.g. command="CreateUser",status="ok".
+     */
+    public static String labels(Map<String, String> labels) {
+        StringBuilder formatted = new StringBuilder();
+
+        for (Map.Entry<String, String> label : new TreeMap<>(labels).entrySet()) {
+            if (!LABEL_NAME.matcher(label.getKey()).matches()) {
+                throw new IllegalArgumentException(String.format("The label name <%s> is not valid", label.getKey()));
+            }
+
+            if (!formatted.isEmpty()) {
+                formatted.append(',');
+            }
+
+            formatted.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+        }
+
+        return formatted.toString();
+    }
+
+    /**
+     * Writes the type line of a metric.
+     *
+     * @param out  The text to append to.
+     * @param name The metric name.
+     * @param type The metric type: counter, gauge or summary.
+     */
+    public static void type(StringBuilder out, String name, String type) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes a sample of a series.
+     *
+     * @param out    The text to append to.
+     * @param name   The sample name.
+     * @param labels The formatted labels of the series, can be empty.
+     * @param value  The value of the sample.
+     */
+    public static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name);
+
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
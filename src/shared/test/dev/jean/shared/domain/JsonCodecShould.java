@@ -0,0 +1,48 @@
+package dev.jean.shared.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public final class JsonCodecShould {
+    @Test
+    public void encode_to_bytes_that_decode_to_the_same_map() {
+        HashMap<String, Serializable> map = this.map(WordMother.random());
+
+        assertEquals(map, JsonCodec.decode(JsonCodec.encodeToBytes(map)));
+    }
+
+    @Test
+    public void encode_to_bytes_from_many_virtual_threads_at_once() throws Exception {
+        List<HashMap<String, Serializable>> maps = new ArrayList<>();
+        List<Future<HashMap<String, Serializable>>> decoded = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                HashMap<String, Serializable> map = this.map(WordMother.random() + i);
+                maps.add(map);
+                decoded.add(executor.submit(() -> JsonCodec.decode(JsonCodec.encodeToBytes(map))));
+            }
+
+            for (int i = 0; i < maps.size(); i++) {
+                assertEquals(maps.get(i), decoded.get(i).get());
+            }
+        }
+    }
+
+    private HashMap<String, Serializable> map(String name) {
+        HashMap<String, Serializable> map = new HashMap<>();
+        map.put("name", name);
+        map.put("id", UuidMother.random());
+
+        return map;
+    }
+}
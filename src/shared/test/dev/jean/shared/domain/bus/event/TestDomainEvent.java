@@ -0,0 +1,45 @@
+package dev.jean.shared.domain.bus.event;
+
+import java.io.Serializable;
+import java.util.HashMap;
+
+/**
+ * This class is a domain event used by the tests.
+ */
+public final class TestDomainEvent extends DomainEvent {
+    private final String name;
+
+    public TestDomainEvent(String aggregateId, String name) {
+        super(aggregateId);
+        this.name = name;
+    }
+
+    public TestDomainEvent(String aggregateId, String eventId, String occurredOn, String name) {
+        super(aggregateId, eventId, occurredOn);
+        this.name = name;
+    }
+
+    public TestDomainEvent() {
+        super();
+        this.name = null;
+    }
+
+    @Override
+    public String eventName() {
+        return "test.created";
+    }
+
+    @Override
+    public HashMap<String, Serializable> toPrimitives() {
+        HashMap<String, Serializable> primitives = new HashMap<>();
+        primitives.put("name", name);
+
+        return primitives;
+    }
+
+    @Override
+    public TestDomainEvent fromPrimitives(
+            String aggregateId, HashMap<String, Serializable> body, String eventId, String occurredOn) {
+        return new TestDomainEvent(aggregateId, eventId, occurredOn, (String) body.get("name"));
+    }
+}
@@ -0,0 +1,28 @@
+package dev.jean.shared.domain.bus.event;
+
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.WordMother;
+
+/**
+ * This class is a factory for TestDomainEvent objects.
+ */
+public final class TestDomainEventMother {
+    /**
+     * Create a random test domain event.
+     *
+     * @return A random test domain event.
+     */
+    public static TestDomainEvent random() {
+        return new TestDomainEvent(UuidMother.random(), WordMother.random());
+    }
+
+    /**
+     * Create a random test domain event of an aggregate.
+     *
+     * @param aggregateId The aggregate ID.
+     * @return A random test domain event.
+     */
+    public static TestDomainEvent of(String aggregateId) {
+        return new TestDomainEvent(aggregateId, WordMother.random());
+    }
+}
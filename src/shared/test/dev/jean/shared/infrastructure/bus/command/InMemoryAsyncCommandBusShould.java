@@ -0,0 +1,91 @@
+package dev.jean.shared.infrastructure.bus.command;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.bus.command.Command;
+import dev.jean.shared.domain.bus.command.CommandHandlerExecutionError;
+import dev.jean.shared.domain.bus.command.CommandRejectedError;
+import dev.jean.shared.infrastructure.config.Parameter;
+import io.github.cdimascio.dotenv.Dotenv;
+
+public final class InMemoryAsyncCommandBusShould {
+    private final InMemoryCommandBus commandBus = mock(InMemoryCommandBus.class);
+    private final Command command = new Command() {
+    };
+    private InMemoryAsyncCommandBus bus;
+
+    @AfterEach
+    public void tearDown() {
+        if (null != bus) {
+            bus.close();
+        }
+    }
+
+    @Test
+    public void complete_the_future_when_the_command_is_handled() throws Exception {
+        bus = this.bus("256", "32");
+
+        assertNull(bus.dispatch(command).get(1, TimeUnit.SECONDS));
+        verify(commandBus).dispatch(command);
+    }
+
+    @Test
+    public void complete_the_future_with_the_error_of_the_handler() {
+        bus = this.bus("256", "32");
+        CommandHandlerExecutionError error = new CommandHandlerExecutionError(new IllegalStateException());
+        doThrow(error).when(commandBus).dispatch(command);
+
+        ExecutionException thrown = assertThrows(
+                ExecutionException.class,
+                () -> bus.dispatch(command).get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(CommandHandlerExecutionError.class, thrown.getCause());
+    }
+
+    @Test
+    public void reject_the_commands_over_the_limit_when_the_bus_is_saturated() throws Exception {
+        bus = this.bus("1", "1");
+        CountDownLatch handling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            handling.countDown();
+            release.await();
+            return null;
+        }).when(commandBus).dispatch(any());
+
+        bus.dispatch(command);
+        handling.await(1, TimeUnit.SECONDS);
+
+        ExecutionException thrown = assertThrows(
+                ExecutionException.class,
+                () -> bus.dispatch(command).get(1, TimeUnit.SECONDS));
+
+        assertInstanceOf(CommandRejectedError.class, thrown.getCause());
+
+        release.countDown();
+    }
+
+    private InMemoryAsyncCommandBus bus(String maxConcurrency, String maxConcurrencyPerCommand) {
+        Dotenv dotenv = mock(Dotenv.class);
+        when(dotenv.get("COMMAND_BUS_MAX_CONCURRENCY")).thenReturn(maxConcurrency);
+        when(dotenv.get("COMMAND_BUS_MAX_CONCURRENCY_PER_COMMAND")).thenReturn(maxConcurrencyPerCommand);
+        when(dotenv.get("COMMAND_BUS_ACQUIRE_TIMEOUT_MS")).thenReturn("10");
+
+        return new InMemoryAsyncCommandBus(commandBus, new Parameter(dotenv));
+    }
+}
@@ -0,0 +1,60 @@
+package dev.jean.shared.infrastructure.bus.event;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.infrastructure.config.Parameter;
+import io.github.cdimascio.dotenv.Dotenv;
+
+public final class DomainEventCodecsShould {
+    private final DomainEventCodec json = this.codec(JsonDomainEventCodec.CONTENT_TYPE);
+    private final DomainEventCodec cbor = this.codec(CborDomainEventCodec.CONTENT_TYPE);
+
+    @Test
+    public void find_the_codec_of_a_content_type_with_parameters() {
+        DomainEventCodecs codecs = this.codecs(null);
+
+        assertSame(cbor, codecs.forContentType("application/cbor; charset=UTF-8"));
+        assertSame(cbor, codecs.forContentType("Application/CBOR"));
+    }
+
+    @Test
+    public void decode_unknown_or_invalid_content_types_as_json() {
+        DomainEventCodecs codecs = this.codecs(null);
+
+        assertSame(json, codecs.forContentType(null));
+        assertSame(json, codecs.forContentType("text/plain"));
+        assertSame(json, codecs.forContentType("not a content type"));
+    }
+
+    @Test
+    public void publish_with_the_configured_content_type() {
+        assertSame(json, this.codecs(null).publishing());
+        assertSame(cbor, this.codecs("application/cbor;charset=UTF-8").publishing());
+    }
+
+    @Test
+    public void fail_when_the_configured_content_type_has_no_codec() {
+        assertThrows(IllegalArgumentException.class, () -> this.codecs("application/xml"));
+    }
+
+    private DomainEventCodecs codecs(String publishingContentType) {
+        Dotenv dotenv = mock(Dotenv.class);
+        when(dotenv.get("RABBITMQ_EVENTS_CONTENT_TYPE")).thenReturn(publishingContentType);
+
+        return new DomainEventCodecs(List.of(json, cbor), new Parameter(dotenv));
+    }
+
+    private DomainEventCodec codec(String contentType) {
+        DomainEventCodec codec = mock(DomainEventCodec.class);
+        when(codec.contentType()).thenReturn(contentType);
+
+        return codec;
+    }
+}
@@ -0,0 +1,134 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This class is an outbox in memory used by the tests. It behaves like the
+ * domain_events table: the claimed events are skipped by the other
+ * transactions until the transaction that claimed them ends, and the
+ * deletes are only applied when the transaction is committed.
+ */
+public final class InMemoryDomainEventsOutbox implements DomainEventsOutbox {
+    private static final Comparator<OutboxEvent> ORDER = Comparator.comparing(OutboxEvent::seq);
+
+    private final List<OutboxEvent> events = new ArrayList<>();
+    private final Set<String> claimed = new HashSet<>();
+    private final HashMap<String, Integer> deadLetters = new HashMap<>();
+
+    /**
+     * Stores an event in the outbox.
+     *
+     * @param event The event.
+     */
+    public synchronized void add(OutboxEvent event) {
+        events.add(event);
+        events.sort(ORDER);
+    }
+
+    /**
+     * @return The events in the outbox, sorted by seq.
+     */
+    public synchronized List<OutboxEvent> events() {
+        return List.copyOf(events);
+    }
+
+    /**
+     * @return The number of failures of every dead lettered event, by ID.
+     */
+    public synchronized HashMap<String, Integer> deadLetters() {
+        return new HashMap<>(deadLetters);
+    }
+
+    @Override
+    public <T> T inTransaction(Function<OutboxTransaction, T> work) {
+        InMemoryOutboxTransaction transaction = new InMemoryOutboxTransaction();
+
+        try {
+            T result = work.apply(transaction);
+            this.commit(transaction);
+
+            return result;
+        } finally {
+            this.release(transaction);
+        }
+    }
+
+    private synchronized void commit(InMemoryOutboxTransaction transaction) {
+        events.removeIf(event -> transaction.deleted.contains(event.id()));
+        deadLetters.putAll(transaction.deadLettered);
+    }
+
+    private synchronized void release(InMemoryOutboxTransaction transaction) {
+        claimed.removeAll(transaction.claimed);
+    }
+
+    /**
+     * The operations of the outbox in a transaction.
+     */
+    private final class InMemoryOutboxTransaction implements OutboxTransaction {
+        private final Set<String> claimed = new HashSet<>();
+        private final Set<String> deleted = new HashSet<>();
+        private final HashMap<String, Integer> deadLettered = new HashMap<>();
+
+        @Override
+        public List<OutboxEvent> next(long seq, int chunk) {
+            synchronized (InMemoryDomainEventsOutbox.this) {
+                return events.stream()
+                        .filter(event -> event.seq() > seq)
+                        .limit(chunk)
+                        .toList();
+            }
+        }
+
+        @Override
+        public List<OutboxEvent> claim(int chunk) {
+            synchronized (InMemoryDomainEventsOutbox.this) {
+                List<OutboxEvent> events = InMemoryDomainEventsOutbox.this.events.stream()
+                        .filter(event -> !InMemoryDomainEventsOutbox.this.claimed.contains(event.id()))
+                        .limit(chunk)
+                        .toList();
+
+                events.forEach(event -> this.claimed.add(event.id()));
+                InMemoryDomainEventsOutbox.this.claimed.addAll(this.claimed);
+
+                return events;
+            }
+        }
+
+        @Override
+        public Set<String> aggregatesWithOlderEvents(Collection<OutboxEvent> earliestEvents) {
+            synchronized (InMemoryDomainEventsOutbox.this) {
+                Set<String> aggregates = new HashSet<>();
+
+                for (OutboxEvent earliest : earliestEvents) {
+                    boolean hasOlderEvents = events.stream().anyMatch(event -> event.aggregateId()
+                            .equals(earliest.aggregateId()) && event.seq() < earliest.seq());
+
+                    if (hasOlderEvents) {
+                        aggregates.add(earliest.aggregateId());
+                    }
+                }
+
+                return aggregates;
+            }
+        }
+
+        @Override
+        public void delete(List<String> ids) {
+            deleted.addAll(ids);
+        }
+
+        @Override
+        public void deadLetter(OutboxEvent event, int failures, String error) {
+            deadLettered.put(event.id(), failures);
+            deleted.add(event.id());
+        }
+    }
+}
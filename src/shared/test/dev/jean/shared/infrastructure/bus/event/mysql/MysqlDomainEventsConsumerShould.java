@@ -0,0 +1,211 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.event.EventBus;
+import dev.jean.shared.domain.bus.event.TestDomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventFactories;
+
+public final class MysqlDomainEventsConsumerShould {
+    private final Integer MAX_FAILURES = 10;
+    private final InMemoryDomainEventsOutbox outbox = new InMemoryDomainEventsOutbox();
+    private final DomainEventFactories factories = mock(DomainEventFactories.class);
+    private final List<String> published = Collections.synchronizedList(new ArrayList<>());
+    private final EventBus bus = events -> events.forEach(event -> published.add(event.eventId()));
+    private final Logger logger = mock(Logger.class);
+    private long seq = 1L;
+
+    public MysqlDomainEventsConsumerShould() {
+        when(factories.create(eq("test.created"), anyString(), ArgumentMatchers.<HashMap<String, Serializable>>any(), anyString(), anyString()))
+                .thenAnswer(invocation -> new TestDomainEvent(
+                        invocation.getArgument(1),
+                        invocation.getArgument(3),
+                        invocation.getArgument(4),
+                        "name"));
+        when(factories.create(eq("test.poison"), anyString(), ArgumentMatchers.<HashMap<String, Serializable>>any(), anyString(), anyString()))
+                .thenThrow(new IllegalArgumentException("The domain event <test.poison> is not registered"));
+    }
+
+    @Test
+    public void relay_the_events_in_order_and_delete_them() {
+        OutboxEvent first = this.store("test.created");
+        OutboxEvent second = this.store("test.created");
+
+        MysqlDomainEventsConsumer.Relay relay = this.consumer(null).relayChunk();
+
+        assertEquals(List.of(first.id(), second.id()), published);
+        assertEquals(second, relay.last());
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    @Test
+    public void keep_the_events_after_a_failing_one_for_the_next_chunk() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(factories.create(eq("test.flaky"), anyString(), ArgumentMatchers.<HashMap<String, Serializable>>any(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        throw new IllegalStateException("broker down");
+                    }
+
+                    return new TestDomainEvent(
+                            invocation.getArgument(1),
+                            invocation.getArgument(3),
+                            invocation.getArgument(4),
+                            "name");
+                });
+        OutboxEvent first = this.store("test.created");
+        OutboxEvent flaky = this.store("test.flaky");
+        OutboxEvent last = this.store("test.created");
+        MysqlDomainEventsConsumer consumer = this.consumer(null);
+
+        MysqlDomainEventsConsumer.Relay failedRelay = consumer.relayChunk();
+
+        assertTrue(failedRelay.failed());
+        assertEquals(List.of(first.id()), published);
+        assertEquals(List.of(flaky, last), outbox.events());
+
+        consumer.relayChunk();
+
+        assertEquals(List.of(first.id(), flaky.id(), last.id()), published);
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    @Test
+    public void dead_letter_a_poison_event_at_the_head_of_the_outbox_and_relay_the_rest() {
+        OutboxEvent poison = this.store("test.poison");
+        OutboxEvent first = this.store("test.created");
+        OutboxEvent second = this.store("test.created");
+        MysqlDomainEventsConsumer consumer = this.consumer(null);
+
+        for (int attempt = 1; attempt < MAX_FAILURES; attempt++) {
+            assertTrue(consumer.relayChunk().failed());
+        }
+
+        assertTrue(published.isEmpty());
+        assertEquals(3, outbox.events().size());
+
+        MysqlDomainEventsConsumer.Relay relay = consumer.relayChunk();
+
+        assertEquals(List.of(first.id(), second.id()), published);
+        assertEquals(1, relay.deadLettered().size());
+        assertEquals(MAX_FAILURES, outbox.deadLetters().get(poison.id()));
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    @Test
+    public void dead_letter_a_poison_event_when_claiming_the_events() {
+        OutboxEvent poison = this.store("test.poison");
+        OutboxEvent event = this.store("test.created");
+        MysqlDomainEventsConsumer consumer = this.consumer(2);
+
+        for (int attempt = 1; attempt <= MAX_FAILURES; attempt++) {
+            consumer.relayChunk();
+        }
+
+        consumer.stop();
+
+        assertEquals(List.of(event.id()), published);
+        assertEquals(MAX_FAILURES, outbox.deadLetters().get(poison.id()));
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    @Test
+    public void relay_the_claimed_events_of_every_aggregate_in_order() {
+        String firstAggregateId = UuidMother.random();
+        String secondAggregateId = UuidMother.random();
+        List<String> firstAggregateEvents = new ArrayList<>();
+        List<String> secondAggregateEvents = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            firstAggregateEvents.add(this.store(firstAggregateId, "test.created").id());
+            secondAggregateEvents.add(this.store(secondAggregateId, "test.created").id());
+        }
+
+        MysqlDomainEventsConsumer consumer = this.consumer(4);
+        consumer.relayChunk();
+        consumer.stop();
+
+        assertEquals(firstAggregateEvents, published.stream().filter(firstAggregateEvents::contains).toList());
+        assertEquals(secondAggregateEvents, published.stream().filter(secondAggregateEvents::contains).toList());
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    @Test
+    public void not_relay_the_events_of_an_aggregate_while_another_consumer_relays_an_older_one() throws Exception {
+        String aggregateId = UuidMother.random();
+        OutboxEvent older = this.store(aggregateId, "test.created");
+        CountDownLatch relaying = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        EventBus failingBus = events -> {
+            relaying.countDown();
+
+            try {
+                fail.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            throw new IllegalStateException("broker down");
+        };
+        MysqlDomainEventsConsumer firstNode = new MysqlDomainEventsConsumer(outbox, factories, failingBus, logger, 2);
+        MysqlDomainEventsConsumer secondNode = this.consumer(2);
+
+        Thread firstNodeRelay = new Thread(firstNode::relayChunk);
+        firstNodeRelay.start();
+        relaying.await();
+
+        OutboxEvent newer = this.store(aggregateId, "test.created");
+        secondNode.relayChunk();
+
+        assertTrue(published.isEmpty());
+
+        fail.countDown();
+        firstNodeRelay.join();
+        secondNode.relayChunk();
+        firstNode.stop();
+        secondNode.stop();
+
+        assertEquals(List.of(older.id(), newer.id()), published);
+        assertTrue(outbox.events().isEmpty());
+    }
+
+    private MysqlDomainEventsConsumer consumer(Integer workers) {
+        return new MysqlDomainEventsConsumer(outbox, factories, bus, logger, workers);
+    }
+
+    private OutboxEvent store(String name) {
+        return this.store(UuidMother.random(), name);
+    }
+
+    private OutboxEvent store(String aggregateId, String name) {
+        OutboxEvent event = new OutboxEvent(
+                seq++,
+                UuidMother.random(),
+                aggregateId,
+                name,
+                "{\"name\":\"name\"}",
+                new Timestamp(0));
+        outbox.add(event);
+
+        return event;
+    }
+}
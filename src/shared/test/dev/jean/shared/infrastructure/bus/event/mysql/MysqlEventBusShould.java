@@ -0,0 +1,49 @@
+package dev.jean.shared.infrastructure.bus.event.mysql;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TestDomainEventMother;
+
+public final class MysqlEventBusShould {
+    private final SessionFactory sessionFactory = mock(SessionFactory.class);
+
+    @Test
+    public void reject_a_chunk_size_lower_than_one() {
+        assertThrows(IllegalArgumentException.class, () -> new MysqlEventBus(sessionFactory, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MysqlEventBus(sessionFactory, -1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insert_the_events_in_chunks() {
+        Session session = mock(Session.class);
+        NativeQuery<Object> query = mock(NativeQuery.class);
+        when(sessionFactory.getCurrentSession()).thenReturn(session);
+        when(session.createNativeQuery(anyString(), eq(Object.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        List<DomainEvent> events = Stream.generate(TestDomainEventMother::random)
+                .limit(5)
+                .map(DomainEvent.class::cast)
+                .toList();
+
+        new MysqlEventBus(sessionFactory, 2).publish(events);
+
+        verify(query, times(3)).executeUpdate();
+    }
+}
@@ -0,0 +1,105 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TestDomainEventMother;
+import dev.jean.shared.infrastructure.bus.event.mysql.MysqlEventBus;
+import dev.jean.shared.infrastructure.monitoring.MetricsRegistry;
+
+public final class AsyncRabbitMqEventBusShould {
+    private final RabbitMqPublisher publisher = mock(RabbitMqPublisher.class);
+    private final MysqlEventBus failoverPublisher = mock(MysqlEventBus.class);
+    private final Logger logger = mock(Logger.class);
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    @Test
+    public void fail_the_events_over_when_the_publisher_fails() {
+        List<DomainEvent> events = List.of(TestDomainEventMother.random());
+        when(publisher.publish(anyList(), anyString())).thenThrow(new IllegalStateException("codec"));
+
+        AsyncRabbitMqEventBus bus = this.bus();
+        bus.publish(events);
+        bus.close();
+
+        verify(failoverPublisher).publishInOwnTransaction(events);
+        assertTrue(metrics.scrape().contains("rabbitmq_events_failed_over_total{exchange=\"domain_events\"} 1\n"));
+    }
+
+    @Test
+    public void log_the_events_when_the_failover_publisher_fails_too() {
+        List<DomainEvent> events = List.of(TestDomainEventMother.random());
+        when(publisher.publish(anyList(), anyString())).thenReturn(events);
+        doThrow(new IllegalStateException("database")).when(failoverPublisher).publishInOwnTransaction(events);
+
+        AsyncRabbitMqEventBus bus = this.bus();
+        bus.publish(events);
+        bus.close();
+
+        verify(logger).critical(
+                eq("The events could not be published to RabbitMQ nor to the failover publisher"),
+                any());
+    }
+
+    @Test
+    public void record_the_drain_latency() {
+        when(publisher.publish(anyList(), anyString())).thenReturn(List.of());
+
+        AsyncRabbitMqEventBus bus = this.bus();
+        bus.publish(List.of(TestDomainEventMother.random()));
+        bus.close();
+
+        assertTrue(metrics.scrape()
+                .contains("rabbitmq_events_drain_latency_nanoseconds_count{exchange=\"domain_events\"} 1\n"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insert_the_failed_over_events_in_a_transaction_of_their_own() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Session session = mock(Session.class);
+        Transaction transaction = mock(Transaction.class);
+        NativeQuery<Object> query = mock(NativeQuery.class);
+        when(sessionFactory.openSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        when(session.createNativeQuery(anyString(), eq(Object.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(publisher.publish(anyList(), anyString())).thenThrow(new IllegalStateException("codec"));
+
+        AsyncRabbitMqEventBus bus = this.bus(new MysqlEventBus(sessionFactory));
+        bus.publish(List.of(TestDomainEventMother.random()));
+        bus.close();
+
+        verify(session).beginTransaction();
+        verify(query).executeUpdate();
+        verify(transaction).commit();
+        verify(session).close();
+        verify(sessionFactory, never()).getCurrentSession();
+    }
+
+    private AsyncRabbitMqEventBus bus() {
+        return this.bus(failoverPublisher);
+    }
+
+    private AsyncRabbitMqEventBus bus(MysqlEventBus failoverPublisher) {
+        return new AsyncRabbitMqEventBus(publisher, failoverPublisher, "domain_events", 10, 10L, logger, metrics);
+    }
+}
@@ -0,0 +1,130 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.event.TestDomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodec;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
+import dev.jean.shared.infrastructure.config.Parameter;
+import dev.jean.shared.infrastructure.config.ParameterNotExist;
+import io.github.cdimascio.dotenv.Dotenv;
+
+public final class RabbitMqDeadLetterReplayerShould {
+    private final String QUEUE = "healthserver.backend.test.on_test_created";
+    private final String DEAD_LETTER_QUEUE = "dead_letter." + QUEUE;
+    private final String REPLAYED = "replayed";
+    private final String KEPT = "kept";
+    private final Double PERMITS_PER_SECOND = 1000000.0;
+    private final RabbitMqDeadLetterFilter FILTER = new RabbitMqDeadLetterFilter(null, REPLAYED, null, null);
+    private final Channel channel = mock(Channel.class);
+    private final AtomicLong deliveryTags = new AtomicLong();
+    private final RabbitMqDeadLetterReplayer replayer;
+
+    public RabbitMqDeadLetterReplayerShould() throws ParameterNotExist {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        when(rabbitTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .<ChannelCallback<?>>getArgument(0)
+                .doInRabbit(channel));
+
+        DomainEventCodecs codecs = mock(DomainEventCodecs.class);
+        DomainEventCodec codec = mock(DomainEventCodec.class);
+        when(codecs.forContentType(any())).thenReturn(codec);
+        when(codec.decode(any())).thenAnswer(invocation -> new TestDomainEvent(
+                new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8),
+                UuidMother.random(),
+                "2024-09-01",
+                "name"));
+
+        Dotenv dotenv = mock(Dotenv.class);
+        when(dotenv.get("RABBITMQ_EXCHANGE")).thenReturn("domain_events");
+
+        replayer = new RabbitMqDeadLetterReplayer(
+                rabbitTemplate,
+                mock(DomainEventSubscribersInformation.class),
+                codecs,
+                new Parameter(dotenv),
+                mock(Logger.class));
+    }
+
+    @Test
+    public void stop_after_the_messages_the_dead_letter_queue_had_when_the_replay_started() throws Exception {
+        this.deadLetterQueueWith(3);
+        when(channel.basicGet(DEAD_LETTER_QUEUE, false)).thenAnswer(invocation -> this.message(REPLAYED));
+
+        RabbitMqDeadLetterReplayer.Replay replay = replayer.replay(QUEUE, FILTER, PERMITS_PER_SECOND, false);
+
+        assertEquals(3, replay.replayed());
+        verify(channel, times(3)).basicGet(DEAD_LETTER_QUEUE, false);
+        verify(channel, times(3)).basicPublish(eq("domain_events"), eq(QUEUE), any(), any());
+    }
+
+    @Test
+    public void move_the_kept_messages_to_the_tail_and_acknowledge_them_in_batches() throws Exception {
+        this.deadLetterQueueWith(250);
+        when(channel.basicGet(DEAD_LETTER_QUEUE, false)).thenAnswer(invocation -> this.message(KEPT));
+
+        RabbitMqDeadLetterReplayer.Replay replay = replayer.replay(QUEUE, FILTER, PERMITS_PER_SECOND, false);
+
+        assertEquals(250, replay.skipped());
+        verify(channel, times(250)).basicPublish(eq(""), eq(DEAD_LETTER_QUEUE), any(), any());
+        verify(channel).basicAck(100L, true);
+        verify(channel).basicAck(200L, true);
+        verify(channel).basicAck(250L, true);
+        verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void return_every_message_to_the_dead_letter_queue_in_a_dry_run() throws Exception {
+        this.deadLetterQueueWith(2);
+        when(channel.basicGet(DEAD_LETTER_QUEUE, false))
+                .thenAnswer(invocation -> this.message(REPLAYED))
+                .thenAnswer(invocation -> this.message(KEPT));
+
+        RabbitMqDeadLetterReplayer.Replay replay = replayer.replay(QUEUE, FILTER, PERMITS_PER_SECOND, true);
+
+        assertEquals(new RabbitMqDeadLetterReplayer.Replay(1, 1), replay);
+        verify(channel, never()).basicPublish(any(), any(), any(), any());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(channel).basicNack(2L, true, true);
+    }
+
+    private void deadLetterQueueWith(int messages) throws Exception {
+        when(channel.queueDeclarePassive(DEAD_LETTER_QUEUE))
+                .thenReturn(new AMQP.Queue.DeclareOk.Builder()
+                        .queue(DEAD_LETTER_QUEUE)
+                        .messageCount(messages)
+                        .build());
+    }
+
+    private GetResponse message(String aggregateId) {
+        return new GetResponse(
+                new Envelope(deliveryTags.incrementAndGet(), false, "dead_letter-domain_events", QUEUE),
+                new AMQP.BasicProperties.Builder().contentType("application/json").build(),
+                aggregateId.getBytes(StandardCharsets.UTF_8),
+                0);
+    }
+}
@@ -0,0 +1,184 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import com.rabbitmq.client.Channel;
+
+import dev.jean.shared.domain.Logger;
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.event.BatchDomainEventSubscriber;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.TestDomainEvent;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodec;
+import dev.jean.shared.infrastructure.bus.event.DomainEventCodecs;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscriberInformation;
+import dev.jean.shared.infrastructure.bus.event.DomainEventSubscribersInformation;
+import dev.jean.shared.infrastructure.config.Parameter;
+import io.github.cdimascio.dotenv.Dotenv;
+
+public final class RabbitMqDomainEventsConsumerShould {
+    private final String QUEUE = "healthserver.backend.test.on_test_created";
+    private final String POISON = "poison";
+    private final String RETRY_EXCHANGE = RabbitMqExchangeNameFormatter.retry("domain_events");
+    private final String FIRST_RETRY_QUEUE = RabbitMqQueueNameFormatter.formatRetry(QUEUE, 1000L);
+    private final ApplicationContext context = mock(ApplicationContext.class);
+    private final RabbitMqPublisher publisher = mock(RabbitMqPublisher.class);
+    private final DomainEventCodecs codecs = mock(DomainEventCodecs.class);
+    private final DomainEventSubscribersInformation information = mock(DomainEventSubscribersInformation.class);
+    private final BatchDomainEventSubscriber batchSubscriber = mock(BatchDomainEventSubscriber.class);
+    private final Channel channel = mock(Channel.class);
+    private final AtomicLong deliveryTags = new AtomicLong();
+
+    public RabbitMqDomainEventsConsumerShould() {
+        DomainEventCodec codec = mock(DomainEventCodec.class);
+        when(codecs.forContentType(any())).thenReturn(codec);
+        when(codec.decode(any())).thenAnswer(invocation -> {
+            String body = new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+
+            if (body.equals(POISON)) {
+                throw new IllegalArgumentException("The domain event <poison> is not registered");
+            }
+
+            return new TestDomainEvent(UuidMother.random(), body, "2024-09-01 10:00:00", "name");
+        });
+    }
+
+    @Test
+    public void send_only_the_message_that_cant_be_decoded_to_retry_and_consume_the_rest_of_the_batch()
+            throws Exception {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+        Message first = this.message(UuidMother.random());
+        Message poison = this.message(POISON);
+        Message last = this.message(UuidMother.random());
+
+        consumer.consumer(List.of(first, poison, last), channel);
+
+        verify(batchSubscriber).on(argThat((List<DomainEvent> events) -> events.size() == 2));
+        verify(publisher).publish(
+                argThat((Message message) -> Arrays.equals(poison.getBody(), message.getBody())),
+                eq(RETRY_EXCHANGE),
+                eq(FIRST_RETRY_QUEUE));
+        assertEquals(1, consumer.retriedEvents(QUEUE));
+        verify(channel).basicAck(first.getMessageProperties().getDeliveryTag(), false);
+        verify(channel).basicAck(poison.getMessageProperties().getDeliveryTag(), false);
+        verify(channel).basicAck(last.getMessageProperties().getDeliveryTag(), false);
+    }
+
+    @Test
+    public void send_every_decoded_message_to_retry_when_the_batch_subscriber_fails() {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+        doThrow(new IllegalStateException("database down")).when(batchSubscriber).on(anyList());
+
+        consumer.consumer(List.of(this.message(UuidMother.random()), this.message(POISON)), channel);
+
+        assertEquals(2, consumer.retriedEvents(QUEUE));
+    }
+
+    @Test
+    public void reject_only_the_message_that_cant_be_sent_to_retry_when_the_batch_subscriber_fails()
+            throws Exception {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+        Message retried = this.message(UuidMother.random());
+        Message rejected = this.message(UuidMother.random());
+        doThrow(new IllegalStateException("database down")).when(batchSubscriber).on(anyList());
+        doThrow(new AmqpException("broker down")).when(publisher).publish(
+                argThat((Message message) -> Arrays.equals(rejected.getBody(), message.getBody())),
+                anyString(),
+                anyString());
+
+        consumer.consumer(List.of(retried, rejected), channel);
+
+        verify(channel).basicAck(retried.getMessageProperties().getDeliveryTag(), false);
+        verify(channel, never()).basicNack(
+                eq(retried.getMessageProperties().getDeliveryTag()),
+                anyBoolean(),
+                anyBoolean());
+        verify(channel).basicNack(rejected.getMessageProperties().getDeliveryTag(), false, false);
+        assertEquals(1, consumer.retriedEvents(QUEUE));
+    }
+
+    @Test
+    public void not_call_the_batch_subscriber_when_no_message_can_be_decoded() {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+
+        consumer.consumer(List.of(this.message(POISON)), channel);
+
+        verify(batchSubscriber, never()).on(anyList());
+        verify(publisher).publish(any(Message.class), eq(RETRY_EXCHANGE), anyString());
+    }
+
+    @Test
+    public void send_a_message_that_cant_be_decoded_to_retry_instead_of_throwing() {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+
+        consumer.consumer(this.message(POISON));
+
+        verify(publisher).publish(any(Message.class), eq(RETRY_EXCHANGE), eq(FIRST_RETRY_QUEUE));
+        assertEquals(1, consumer.retriedEvents(QUEUE));
+    }
+
+    @Test
+    public void send_a_message_without_subscriber_to_retry_instead_of_throwing() {
+        RabbitMqDomainEventsConsumer consumer = this.batchConsumer();
+
+        consumer.consumer(this.message(UuidMother.random()));
+
+        verify(publisher).publish(any(Message.class), eq(RETRY_EXCHANGE), eq(FIRST_RETRY_QUEUE));
+        assertEquals(1, consumer.retriedEvents(QUEUE));
+    }
+
+    private RabbitMqDomainEventsConsumer batchConsumer() {
+        DomainEventSubscriberInformation subscriberInformation = mock(DomainEventSubscriberInformation.class);
+        when(subscriberInformation.formatRabbitMQQueueName()).thenReturn(QUEUE);
+        when(subscriberInformation.maxRetries()).thenReturn(-1);
+        when(subscriberInformation.subscriberClass()).thenAnswer(invocation -> BatchDomainEventSubscriber.class);
+        when(information.all()).thenReturn(List.of(subscriberInformation));
+        when(context.getBean(BatchDomainEventSubscriber.class)).thenReturn(batchSubscriber);
+
+        RabbitMqDomainEventsConsumer consumer = new RabbitMqDomainEventsConsumer(
+                codecs,
+                context,
+                publisher,
+                mock(ConnectionFactory.class),
+                information,
+                new RabbitMqRetryTiers(new Parameter(mock(Dotenv.class))),
+                mock(Logger.class));
+        consumer.onApplicationEvent(new ContextRefreshedEvent(context));
+
+        return consumer;
+    }
+
+    private Message message(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType("application/json");
+        properties.setConsumerQueue(QUEUE);
+        properties.setDeliveryTag(deliveryTags.incrementAndGet());
+
+        return MessageBuilder.withBody(body.getBytes(StandardCharsets.UTF_8)).andProperties(properties).build();
+    }
+}
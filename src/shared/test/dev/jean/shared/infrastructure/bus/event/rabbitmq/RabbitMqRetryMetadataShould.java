@@ -0,0 +1,81 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+
+import dev.jean.shared.domain.WordMother;
+
+public final class RabbitMqRetryMetadataShould {
+    private final Instant FIRST_FAILURE = Instant.parse("2024-09-01T10:00:00Z");
+    private final Instant SECOND_FAILURE = Instant.parse("2024-09-01T10:00:01Z");
+
+    @Test
+    public void start_counting_from_a_message_that_never_failed() {
+        RabbitMqRetryMetadata metadata = RabbitMqRetryMetadata.of(this.message());
+
+        assertEquals(0, metadata.redeliveryCount());
+        assertNull(metadata.firstFailureAt());
+        assertNull(metadata.lastError());
+    }
+
+    @Test
+    public void advance_the_redelivery_count_on_every_failure() {
+        Message firstRetry = RabbitMqRetryMetadata.of(this.message())
+                .failed(new IllegalStateException(), this.FIRST_FAILURE)
+                .message(this.message());
+        Message secondRetry = RabbitMqRetryMetadata.of(firstRetry)
+                .failed(new IllegalArgumentException(), this.SECOND_FAILURE)
+                .message(firstRetry);
+
+        assertEquals(1, RabbitMqRetryMetadata.of(firstRetry).redeliveryCount());
+        assertEquals(2, RabbitMqRetryMetadata.of(secondRetry).redeliveryCount());
+    }
+
+    @Test
+    public void keep_the_first_failure_and_the_last_error() {
+        Message firstRetry = RabbitMqRetryMetadata.of(this.message())
+                .failed(new IllegalStateException(), this.FIRST_FAILURE)
+                .message(this.message());
+        Message secondRetry = RabbitMqRetryMetadata.of(firstRetry)
+                .failed(new IllegalArgumentException(), this.SECOND_FAILURE)
+                .message(firstRetry);
+
+        RabbitMqRetryMetadata metadata = RabbitMqRetryMetadata.of(secondRetry);
+
+        assertEquals(this.FIRST_FAILURE.toString(), metadata.firstFailureAt());
+        assertEquals(IllegalArgumentException.class.getName(), metadata.lastError());
+    }
+
+    @Test
+    public void build_a_new_message_without_modifying_the_failed_one() {
+        Message failed = this.message();
+        failed.getMessageProperties().setHeader("trace_id", "trace");
+
+        Message retry = RabbitMqRetryMetadata.of(failed)
+                .failed(new IllegalStateException(), this.FIRST_FAILURE)
+                .message(failed);
+
+        assertFalse(failed.getMessageProperties().getHeaders().containsKey(RabbitMqRetryMetadata.REDELIVERY_COUNT));
+        assertEquals("trace", retry.getMessageProperties().getHeaders().get("trace_id"));
+        assertEquals("application/json", retry.getMessageProperties().getContentType());
+        assertArrayEquals(failed.getBody(), retry.getBody());
+    }
+
+    private Message message() {
+        return new Message(
+                WordMother.random().getBytes(StandardCharsets.UTF_8),
+                MessagePropertiesBuilder.newInstance()
+                        .setContentType("application/json")
+                        .setContentEncoding("utf-8")
+                        .build());
+    }
+}
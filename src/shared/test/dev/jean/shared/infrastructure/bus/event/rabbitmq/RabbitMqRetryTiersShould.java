@@ -0,0 +1,71 @@
+package dev.jean.shared.infrastructure.bus.event.rabbitmq;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.WordMother;
+import dev.jean.shared.infrastructure.config.Parameter;
+import io.github.cdimascio.dotenv.Dotenv;
+
+public final class RabbitMqRetryTiersShould {
+    @Test
+    public void use_the_default_tiers_when_they_are_not_configured() {
+        RabbitMqRetryTiers tiers = this.tiers(null);
+
+        assertEquals(List.of(1000L, 10000L, 60000L, 600000L), tiers.delays());
+    }
+
+    @Test
+    public void read_the_configured_tiers_in_order() {
+        RabbitMqRetryTiers tiers = this.tiers("500, 5000,50000");
+
+        assertEquals(List.of(500L, 5000L, 50000L), tiers.delays());
+    }
+
+    @Test
+    public void route_every_redelivery_to_the_tier_of_its_count() {
+        RabbitMqRetryTiers tiers = this.tiers("500,5000,50000");
+
+        assertEquals(500L, tiers.delayFor(0));
+        assertEquals(5000L, tiers.delayFor(1));
+        assertEquals(50000L, tiers.delayFor(2));
+    }
+
+    @Test
+    public void keep_routing_to_the_last_tier_after_the_last_one() {
+        RabbitMqRetryTiers tiers = this.tiers("500,5000");
+
+        assertEquals(5000L, tiers.delayFor(2));
+        assertEquals(5000L, tiers.delayFor(100));
+    }
+
+    @Test
+    public void reject_tiers_that_are_not_numbers() {
+        assertThrows(NumberFormatException.class, () -> this.tiers("500,soon"));
+    }
+
+    @Test
+    public void name_the_retry_queue_of_a_tier_after_its_delay() {
+        String queue = WordMother.random();
+
+        assertEquals(
+                String.format("retry.1000ms.%s", queue),
+                RabbitMqQueueNameFormatter.formatRetry(queue, 1000L));
+        assertEquals(
+                String.format("retry.600000ms.%s", queue),
+                RabbitMqQueueNameFormatter.formatRetry(queue, 600000L));
+    }
+
+    private RabbitMqRetryTiers tiers(String configuredTiers) {
+        Dotenv dotenv = mock(Dotenv.class);
+        when(dotenv.get("RABBITMQ_RETRY_TIERS")).thenReturn(configuredTiers);
+
+        return new RabbitMqRetryTiers(new Parameter(dotenv));
+    }
+}
@@ -0,0 +1,45 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.query.AggregateQuery;
+import dev.jean.shared.domain.bus.query.CacheableQuery;
+import dev.jean.shared.domain.bus.query.QueryBus;
+import dev.jean.shared.domain.bus.query.Response;
+import dev.jean.shared.infrastructure.monitoring.MetricsRegistry;
+
+public final class CachedQueryBusShould {
+    private final QueryBus decoratedBus = mock(QueryBus.class);
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final CachedQueryBus bus = new CachedQueryBus(decoratedBus, new QueryResponseCache(), metrics);
+
+    @CacheableQuery(ttl = 60)
+    private record FindUserQuery(String aggregateId) implements AggregateQuery {
+    }
+
+    private record UserResponse(String id) implements Response {
+    }
+
+    @Test
+    public void answer_a_cached_query_from_the_cache_and_count_the_hits_and_misses() throws Exception {
+        FindUserQuery query = new FindUserQuery(UuidMother.random());
+        UserResponse response = new UserResponse(query.aggregateId());
+        when(decoratedBus.ask(query)).thenReturn(response);
+
+        bus.ask(query);
+        UserResponse cachedResponse = bus.ask(query);
+
+        assertSame(response, cachedResponse);
+        verify(decoratedBus, times(1)).ask(query);
+        assertTrue(metrics.scrape().contains("query_cache_hits_total 1\n"));
+        assertTrue(metrics.scrape().contains("query_cache_misses_total 1\n"));
+    }
+}
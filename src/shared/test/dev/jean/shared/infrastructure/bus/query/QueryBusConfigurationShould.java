@@ -0,0 +1,84 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.event.DomainEvent;
+import dev.jean.shared.domain.bus.event.EventBus;
+import dev.jean.shared.domain.bus.event.TestDomainEvent;
+import dev.jean.shared.domain.bus.query.AggregateQuery;
+import dev.jean.shared.domain.bus.query.CacheableQuery;
+import dev.jean.shared.domain.bus.query.QueryBus;
+import dev.jean.shared.domain.bus.query.Response;
+import dev.jean.shared.infrastructure.bus.event.QueryCacheInvalidatingEventBus;
+import dev.jean.shared.infrastructure.bus.event.rabbitmq.AsyncRabbitMqEventBus;
+import dev.jean.shared.infrastructure.monitoring.MetricsRegistry;
+
+public final class QueryBusConfigurationShould {
+    private final AsyncRabbitMqEventBus rabbitMqEventBus = mock(AsyncRabbitMqEventBus.class);
+
+    @CacheableQuery(ttl = 60)
+    private record FindUserQuery(String aggregateId) implements AggregateQuery {
+    }
+
+    private record UserResponse(String id) implements Response {
+    }
+
+    @Test
+    public void make_the_cached_buses_the_primary_query_and_event_buses() {
+        try (AnnotationConfigApplicationContext context = this.context()) {
+            assertInstanceOf(CachedQueryBus.class, context.getBean(QueryBus.class));
+            assertInstanceOf(QueryCacheInvalidatingEventBus.class, context.getBean(EventBus.class));
+        }
+    }
+
+    @Test
+    public void invalidate_the_cached_responses_of_the_events_published_to_rabbitmq() {
+        try (AnnotationConfigApplicationContext context = this.context()) {
+            QueryResponseCache cache = context.getBean(QueryResponseCache.class);
+            FindUserQuery query = new FindUserQuery(UuidMother.random());
+            cache.put(query, new UserResponse(query.aggregateId()), cache.version(query));
+            List<DomainEvent> events = List.of(
+                    new TestDomainEvent(query.aggregateId(), UuidMother.random(), "2024-09-01", "name"));
+
+            context.getBean(EventBus.class).publish(events);
+
+            verify(rabbitMqEventBus).publish(events);
+            assertNull(cache.get(query));
+        }
+    }
+
+    @Test
+    public void invalidate_the_cached_responses_of_the_events_when_rabbitmq_fails() {
+        try (AnnotationConfigApplicationContext context = this.context()) {
+            QueryResponseCache cache = context.getBean(QueryResponseCache.class);
+            FindUserQuery query = new FindUserQuery(UuidMother.random());
+            cache.put(query, new UserResponse(query.aggregateId()), cache.version(query));
+            List<DomainEvent> events = List.of(
+                    new TestDomainEvent(query.aggregateId(), UuidMother.random(), "2024-09-01", "name"));
+            doThrow(new IllegalStateException("buffer full")).when(rabbitMqEventBus).publish(events);
+
+            assertThrows(IllegalStateException.class, () -> context.getBean(EventBus.class).publish(events));
+            assertNull(cache.get(query));
+        }
+    }
+
+    private AnnotationConfigApplicationContext context() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(QueryBusConfiguration.class, MetricsRegistry.class);
+        context.registerBean(AsyncRabbitMqEventBus.class, () -> rabbitMqEventBus);
+        context.refresh();
+
+        return context;
+    }
+}
@@ -0,0 +1,142 @@
+package dev.jean.shared.infrastructure.bus.query;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.UuidMother;
+import dev.jean.shared.domain.bus.query.AggregateQuery;
+import dev.jean.shared.domain.bus.query.CacheableQuery;
+import dev.jean.shared.domain.bus.query.Response;
+
+public final class QueryResponseCacheShould {
+    private final Integer THREADS = 8;
+    private final Integer ITERATIONS = 20_000;
+
+    @CacheableQuery(ttl = 60)
+    private record FindUserQuery(String aggregateId, Integer page) implements AggregateQuery {
+    }
+
+    private record UserResponse(String id) implements Response {
+    }
+
+    @Test
+    public void cache_a_response_when_its_aggregate_did_not_change() {
+        QueryResponseCache cache = new QueryResponseCache();
+        FindUserQuery query = new FindUserQuery(UuidMother.random(), 1);
+        UserResponse response = new UserResponse(query.aggregateId());
+
+        cache.put(query, response, cache.version(query));
+
+        assertSame(response, cache.get(query));
+    }
+
+    @Test
+    public void drop_a_response_read_before_its_aggregate_changed() {
+        QueryResponseCache cache = new QueryResponseCache();
+        FindUserQuery query = new FindUserQuery(UuidMother.random(), 1);
+        long version = cache.version(query);
+
+        cache.invalidate(query.aggregateId());
+        cache.put(query, new UserResponse(query.aggregateId()), version);
+
+        assertNull(cache.get(query));
+    }
+
+    @Test
+    public void invalidate_a_response_cached_again_after_it_was_invalidated() {
+        QueryResponseCache cache = new QueryResponseCache();
+        FindUserQuery query = new FindUserQuery(UuidMother.random(), 1);
+
+        cache.put(query, new UserResponse(query.aggregateId()), cache.version(query));
+        cache.invalidate(query.aggregateId());
+        cache.put(query, new UserResponse(query.aggregateId()), cache.version(query));
+        cache.invalidate(query.aggregateId());
+
+        assertNull(cache.get(query));
+    }
+
+    @Test
+    public void not_lose_any_response_from_the_index_while_caching_and_invalidating_concurrently()
+            throws Exception {
+        QueryResponseCache cache = new QueryResponseCache();
+        String aggregateId = UuidMother.random();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int page = thread;
+
+                tasks.add(executor.submit(() -> {
+                    start.await();
+
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        FindUserQuery query = new FindUserQuery(aggregateId, page * ITERATIONS + i % 16);
+
+                        if (i % 4 == 0) {
+                            cache.invalidate(aggregateId);
+                        } else {
+                            cache.put(query, new UserResponse(aggregateId), cache.version(query));
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        cache.invalidate(aggregateId);
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int i = 0; i < 16; i++) {
+                assertNull(cache.get(new FindUserQuery(aggregateId, thread * ITERATIONS + i)));
+            }
+        }
+    }
+
+    @Test
+    public void not_cache_a_response_read_while_its_aggregate_changes_concurrently() throws Exception {
+        QueryResponseCache cache = new QueryResponseCache();
+
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            FindUserQuery query = new FindUserQuery(UuidMother.random(), 1);
+            CountDownLatch read = new CountDownLatch(1);
+            CountDownLatch changed = new CountDownLatch(1);
+
+            Thread reader = Thread.ofVirtual().start(() -> {
+                long version = cache.version(query);
+                read.countDown();
+
+                try {
+                    changed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                cache.put(query, new UserResponse(query.aggregateId()), version);
+            });
+
+            read.await();
+            cache.invalidate(query.aggregateId());
+            changed.countDown();
+            reader.join();
+
+            assertNull(cache.get(query));
+        }
+    }
+}
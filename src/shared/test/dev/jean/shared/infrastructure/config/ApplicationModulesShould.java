@@ -0,0 +1,128 @@
+package dev.jean.shared.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerAnnotationBeanPostProcessor;
+import org.springframework.amqp.rabbit.config.RabbitListenerConfigUtils;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.support.GenericApplicationContext;
+
+import dev.jean.shared.infrastructure.config.boundedcontext.TestService;
+
+public final class ApplicationModulesShould {
+    private final String BOUNDED_CONTEXT = "dev.jean.shared.infrastructure.config.boundedcontext";
+    private final String ENDPOINT_REGISTRY = RabbitListenerConfigUtils.RABBIT_LISTENER_ENDPOINT_REGISTRY_BEAN_NAME;
+    private final String ANNOTATION_PROCESSOR = RabbitListenerConfigUtils.RABBIT_LISTENER_ANNOTATION_PROCESSOR_BEAN_NAME;
+
+    @Test
+    public void scan_the_declared_bounded_contexts_for_services() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(BOUNDED_CONTEXT), Set.of(), Set.of()))) {
+            context.refresh();
+
+            assertNotNull(context.getBean(TestService.class));
+        }
+    }
+
+    @Test
+    public void not_scan_anything_without_bounded_contexts() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(), Set.of(), Set.of()))) {
+            context.refresh();
+
+            assertEquals(0, context.getBeanNamesForType(TestService.class).length);
+        }
+    }
+
+    @Test
+    public void not_create_the_beans_of_an_optional_module_on_startup() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(), Set.of(), Set.of(InfrastructureModule.RABBITMQ)))) {
+            context.refresh();
+
+            for (Class<?> configuration : InfrastructureModule.RABBITMQ.configurations()) {
+                String[] beanNames = context.getBeanNamesForType(configuration, true, false);
+
+                assertEquals(1, beanNames.length);
+                assertTrue(context.getBeanDefinition(beanNames[0]).isLazyInit());
+                assertFalse(context.getBeanFactory().containsSingleton(beanNames[0]));
+            }
+
+            assertTrue(context.getBeanDefinition("connection").isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton("connection"));
+        }
+    }
+
+    @Test
+    public void not_start_the_lifecycle_beans_an_optional_module_registers_from_other_packages() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(), Set.of(), Set.of(InfrastructureModule.RABBITMQ)))) {
+            context.registerBean(ENDPOINT_REGISTRY, RabbitListenerEndpointRegistry.class);
+            context.refresh();
+
+            assertTrue(context.getBeanDefinition(ENDPOINT_REGISTRY).isLazyInit());
+            assertFalse(context.getBeanFactory().containsSingleton(ENDPOINT_REGISTRY));
+        }
+    }
+
+    @Test
+    public void not_register_the_rabbit_listener_annotation_processor_of_an_optional_module() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(), Set.of(), Set.of(InfrastructureModule.RABBITMQ)))) {
+            context.registerBean(ANNOTATION_PROCESSOR, RabbitListenerAnnotationBeanPostProcessor.class);
+            context.registerBean(ENDPOINT_REGISTRY, RabbitListenerEndpointRegistry.class);
+            context.refresh();
+
+            assertFalse(context.containsBeanDefinition(ANNOTATION_PROCESSOR));
+            assertFalse(context.getBeanFactory().containsSingleton(ENDPOINT_REGISTRY));
+        }
+    }
+
+    @Test
+    public void start_the_lifecycle_beans_that_are_not_lazy() {
+        try (GenericApplicationContext context = this.context(
+                new ApplicationModules(List.of(), Set.of(), Set.of(InfrastructureModule.RABBITMQ)))) {
+            context.registerBean("eagerLifecycle", TestLifecycle.class);
+            context.registerBean("lazyLifecycle", TestLifecycle.class, definition -> definition.setLazyInit(true));
+            context.refresh();
+
+            assertTrue(context.getBean("eagerLifecycle", TestLifecycle.class).isRunning());
+            assertFalse(context.getBeanFactory().containsSingleton("lazyLifecycle"));
+        }
+    }
+
+    private GenericApplicationContext context(ApplicationModules modules) {
+        GenericApplicationContext context = new GenericApplicationContext();
+
+        modules.initialize(context);
+
+        return context;
+    }
+
+    public static final class TestLifecycle implements SmartLifecycle {
+        private boolean running = false;
+
+        @Override
+        public void start() {
+            this.running = true;
+        }
+
+        @Override
+        public void stop() {
+            this.running = false;
+        }
+
+        @Override
+        public boolean isRunning() {
+            return this.running;
+        }
+    }
+}
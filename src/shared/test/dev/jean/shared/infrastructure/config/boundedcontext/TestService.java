@@ -0,0 +1,7 @@
+package dev.jean.shared.infrastructure.config.boundedcontext;
+
+import dev.jean.shared.domain.Service;
+
+@Service
+public final class TestService {
+}
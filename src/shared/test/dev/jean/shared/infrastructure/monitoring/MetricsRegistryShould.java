@@ -0,0 +1,104 @@
+package dev.jean.shared.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import dev.jean.shared.domain.Metrics;
+import dev.jean.shared.domain.Monitoring;
+
+public final class MetricsRegistryShould {
+    @Test
+    public void write_counters_and_gauges_in_the_prometheus_format() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Monitoring monitoring = registry.monitoring("events");
+
+        monitoring.incrementCounter(3);
+        monitoring.incrementGauge(5);
+        monitoring.decrementGauge(2);
+
+        String scraped = registry.scrape();
+
+        assertTrue(scraped.contains("# TYPE events_total counter\nevents_total 3\n"));
+        assertTrue(scraped.contains("# TYPE events gauge\nevents 3\n"));
+    }
+
+    @Test
+    public void write_every_labelled_histogram_as_a_summary() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Monitoring monitoring = registry.monitoring("dispatch");
+        HashMap<String, String> labels = new HashMap<>();
+        labels.put("command", "CreateUser");
+
+        monitoring.observeHistogram(100, labels);
+        monitoring.observeHistogram(300, labels);
+        labels.put("command", "Say \"hi\"");
+        monitoring.observeHistogram(50, labels);
+
+        String scraped = registry.scrape();
+
+        assertTrue(scraped.contains("# TYPE dispatch_observations summary\n"));
+        assertTrue(scraped.contains("dispatch_observations_sum{command=\"CreateUser\"} 400\n"));
+        assertTrue(scraped.contains("dispatch_observations_count{command=\"CreateUser\"} 2\n"));
+        assertTrue(scraped.contains("dispatch_observations_count{command=\"Say \\\"hi\\\"\"} 1\n"));
+        assertTrue(scraped.contains("dispatch_observations{command=\"CreateUser\",quantile=\"0.5\"} 100\n"));
+    }
+
+    @Test
+    public void keep_the_values_recorded_before_the_last_scrape() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Monitoring monitoring = registry.monitoring("dispatch");
+
+        monitoring.observeHistogram(100, new HashMap<>());
+        registry.scrape();
+        monitoring.observeHistogram(100, new HashMap<>());
+
+        assertTrue(registry.scrape().contains("dispatch_observations_count 2\n"));
+    }
+
+    @Test
+    public void resolve_the_same_handle_for_the_same_labels_in_any_order() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        Metrics.Histogram histogram = registry.histogram("bus_dispatch", "command", "CreateUser", "status", "ok");
+
+        assertSame(histogram, registry.histogram("bus_dispatch", "status", "ok", "command", "CreateUser"));
+    }
+
+    @Test
+    public void write_the_values_recorded_on_the_handles() {
+        MetricsRegistry registry = new MetricsRegistry();
+
+        registry.counter("bus_dispatched_total", "command", "CreateUser").increment(2);
+        registry.gauge("bus_in_flight").set(4);
+        registry.histogram("bus_dispatch", "command", "CreateUser").record(3_000_000_000L);
+
+        String scraped = registry.scrape();
+
+        assertTrue(scraped.contains("# TYPE bus_dispatched_total counter\nbus_dispatched_total{command=\"CreateUser\"} 2\n"));
+        assertTrue(scraped.contains("# TYPE bus_in_flight gauge\nbus_in_flight 4\n"));
+        assertTrue(scraped.contains("bus_dispatch_sum{command=\"CreateUser\"} 3000000000\n"));
+    }
+
+    @Test
+    public void reject_a_metric_already_registered_with_another_type() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("bus_dispatch");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("bus_dispatch"));
+    }
+
+    @Test
+    public void reject_labels_that_are_not_pairs() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsRegistry().histogram("bus_dispatch", "command"));
+    }
+
+    @Test
+    public void reject_metric_names_that_are_not_valid() {
+        assertThrows(IllegalArgumentException.class, () -> new MetricsRegistry().monitoring("bus-dispatch"));
+    }
+}